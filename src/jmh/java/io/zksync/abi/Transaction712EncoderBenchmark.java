@@ -0,0 +1,80 @@
+package io.zksync.abi;
+
+import io.zksync.methods.request.Eip712Meta;
+import io.zksync.transaction.type.Transaction712;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.web3j.crypto.Sign;
+import org.web3j.rlp.RlpEncoder;
+import org.web3j.rlp.RlpList;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding of the ERC20 transfer transaction through {@code asRlpValues} and {@link Transaction712RlpEncoder}.
+ *
+ * <pre>{@code
+ * gradle jmh -PjmhArgs="Transaction712EncoderBenchmark -prof gc"
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Transaction712EncoderBenchmark {
+
+    private Transaction712 transaction;
+    private Sign.SignatureData signature;
+    private byte[] buffer;
+
+    @Setup
+    public void setUp() {
+        transaction = new Transaction712(
+                270L,
+                BigInteger.valueOf(42),
+                BigInteger.valueOf(300000L),
+                "0x2c7e84980191210883d2df3167a3ab6a2cc15e01",
+                BigInteger.ZERO,
+                "0xa9059cbb0000000000000000000000007e5f4552091a69125d5dfcb7b8c2659029395bdf"
+                        + "0000000000000000000000000000000000000000000000000de0b6b3a7640000",
+                BigInteger.valueOf(100000000L),
+                BigInteger.valueOf(250000000L),
+                "0x7e5f4552091a69125d5dfcb7b8c2659029395bdf",
+                new Eip712Meta(BigInteger.valueOf(160000L), null, null, null));
+        signature = TransactionEncoder.getSignatureData(
+                "0x5e1a7f2a1e3c19b3a1a8f3ef0ab5f0c2f2c3d8a1b9e4f5d6c7b8a9f0e1d2c3b4"
+                        + "1a2b3c4d5e6f708192a3b4c5d6e7f8091a2b3c4d5e6f708192a3b4c5d6e7f8091b");
+        buffer = new byte[Transaction712RlpEncoder.encodedLength(transaction, signature)];
+    }
+
+    @Benchmark
+    public byte[] rlpValues() {
+        byte[] encoded = RlpEncoder.encode(new RlpList(transaction.asRlpValues(signature)));
+        return ByteBuffer.allocate(encoded.length + 1)
+                .put(Transaction712.EIP_712_TX_TYPE)
+                .put(encoded)
+                .array();
+    }
+
+    @Benchmark
+    public byte[] direct() {
+        return Transaction712RlpEncoder.encode(transaction, signature);
+    }
+
+    @Benchmark
+    public int directReusedBuffer() {
+        return Transaction712RlpEncoder.encode(transaction, signature, buffer, 0);
+    }
+}
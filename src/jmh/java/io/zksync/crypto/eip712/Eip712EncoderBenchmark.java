@@ -0,0 +1,68 @@
+package io.zksync.crypto.eip712;
+
+import io.zksync.methods.request.Eip712Meta;
+import io.zksync.transaction.type.Transaction712;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the EIP-712 digest of the ERC20 transfer transaction, the hashing part of every signature.
+ *
+ * <pre>{@code
+ * gradle jmh -PjmhArgs="Eip712EncoderBenchmark -prof gc"
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Eip712EncoderBenchmark {
+
+    private Eip712Domain domain;
+    private Transaction712 transaction;
+
+    @Setup
+    public void setUp() {
+        domain = Eip712Domain.defaultDomain(270L);
+        transaction = new Transaction712(
+                270L,
+                BigInteger.valueOf(42),
+                BigInteger.valueOf(300000L),
+                "0x2c7e84980191210883d2df3167a3ab6a2cc15e01",
+                BigInteger.ZERO,
+                "0xa9059cbb0000000000000000000000007e5f4552091a69125d5dfcb7b8c2659029395bdf"
+                        + "0000000000000000000000000000000000000000000000000de0b6b3a7640000",
+                BigInteger.valueOf(100000000L),
+                BigInteger.valueOf(250000000L),
+                "0x7e5f4552091a69125d5dfcb7b8c2659029395bdf",
+                new Eip712Meta(BigInteger.valueOf(160000L), null, null, null));
+    }
+
+    @Benchmark
+    public byte[] typedDataToSignedBytes() {
+        return Eip712Encoder.typedDataToSignedBytes(domain, transaction);
+    }
+
+    @Benchmark
+    public byte[] hashStruct() {
+        return transaction.hashStruct();
+    }
+
+    @Benchmark
+    public byte[] genericHashStruct() {
+        return Eip712Encoder.hashStruct(transaction);
+    }
+}
@@ -0,0 +1,57 @@
+package io.zksync.crypto.signer;
+
+import io.zksync.crypto.eip712.Eip712Domain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.Hash;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares signing of the message hash with web3j {@code Sign} and with the fast signing mode.
+ *
+ * <pre>{@code
+ * gradle jmh -PjmhArgs="PrivateKeyEthSignerBenchmark"
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrivateKeyEthSignerBenchmark {
+
+    private PrivateKeyEthSigner web3jSigner;
+    private PrivateKeyEthSigner fastSigner;
+    private byte[] hash;
+
+    @Setup
+    public void setUp() {
+        Credentials credentials = Credentials.create(Hash.sha3String("benchmark"));
+        Eip712Domain domain = Eip712Domain.defaultDomain(270L);
+        web3jSigner = new PrivateKeyEthSigner(credentials, domain, ForkJoinPool.commonPool(), false);
+        fastSigner = new PrivateKeyEthSigner(credentials, domain, ForkJoinPool.commonPool(), true);
+        hash = Hash.sha3("benchmark".getBytes());
+    }
+
+    @Benchmark
+    public String web3j() {
+        return web3jSigner.signMessage(hash, false).join();
+    }
+
+    @Benchmark
+    public String fast() {
+        return fastSigner.signMessage(hash, false).join();
+    }
+}
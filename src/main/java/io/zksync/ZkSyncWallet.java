@@ -2,70 +2,130 @@ package io.zksync;
 
 import java.io.IOException;
 import java.math.BigInteger;
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
 
 import io.zksync.methods.request.Transaction;
 import io.zksync.protocol.exceptions.JsonRpcResponseException;
-import io.zksync.transaction.response.ZkSyncTransactionReceiptProcessor;
+import io.zksync.protocol.core.AsyncRemoteCall;
+import io.zksync.transaction.response.AsyncTransactionReceiptProcessor;
+import io.zksync.transaction.response.FinalizedBlockTracker;
+import io.zksync.transaction.response.TransactionStatusEvent;
+import io.zksync.transaction.response.ZkSyncAsyncTransactionReceiptProcessor;
 import io.zksync.transaction.type.Transaction712;
 import io.zksync.utils.ZkSyncAddresses;
-import io.zksync.wrappers.ERC20;
-import io.zksync.wrappers.IL2Bridge;
-import io.zksync.wrappers.IL2Messenger;
+import io.zksync.utils.ZkSyncExecutors;
+import io.zksync.wrappers.Erc20Calls;
+import io.zksync.wrappers.L2Calls;
 import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Publisher;
 import org.web3j.abi.FunctionEncoder;
-import org.web3j.abi.datatypes.Address;
 import org.web3j.abi.datatypes.Function;
-import org.web3j.abi.datatypes.generated.Uint256;
 import org.web3j.crypto.Credentials;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.RemoteCall;
+import org.web3j.protocol.core.methods.response.EthGetBalance;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
 import org.web3j.protocol.core.methods.response.EthSendTransaction;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.protocol.exceptions.TransactionException;
-import org.web3j.tx.ReadonlyTransactionManager;
-import org.web3j.tx.gas.DefaultGasProvider;
+import org.web3j.tx.exceptions.ContractCallException;
 import org.web3j.tx.response.TransactionReceiptProcessor;
 import org.web3j.utils.Numeric;
 
 import io.zksync.abi.TransactionEncoder;
+import io.zksync.crypto.eip712.Eip712Domain;
 import io.zksync.crypto.signer.EthSigner;
 import io.zksync.crypto.signer.PrivateKeyEthSigner;
+import io.zksync.protocol.BalanceMatrix;
+import io.zksync.protocol.BulkBalanceReader;
 import io.zksync.protocol.ZkSync;
+import io.zksync.protocol.ZkSyncNetworkContext;
 import io.zksync.protocol.core.Token;
 import io.zksync.protocol.core.ZkBlockParameterName;
 import io.zksync.transaction.fee.DefaultTransactionFeeProvider;
 import io.zksync.transaction.fee.ZkTransactionFeeProvider;
+import io.zksync.transaction.manager.NonceManager;
 import lombok.Getter;
 
-import static io.zksync.transaction.manager.ZkSyncTransactionManager.DEFAULT_POLLING_ATTEMPTS_PER_TX_HASH;
-import static io.zksync.transaction.manager.ZkSyncTransactionManager.DEFAULT_POLLING_FREQUENCY;
-
 @Getter
 public class ZkSyncWallet {
 
+    /**
+     * Amount of transactions processed at once by {@link #sendTransactions(Publisher)} of wallets with {@link NonceManager}
+     */
+    public static final int DEFAULT_STREAM_CONCURRENCY = 16;
+
     private final ZkSync zksync;
     private final EthSigner signer;
     private final TransactionReceiptProcessor transactionReceiptProcessor;
     private final ZkTransactionFeeProvider feeProvider;
+    private final Executor executor;
+    @Nullable
+    private final NonceManager nonceManager;
+    private final ZkSyncNetworkContext networkContext;
 
+    /**
+     * @param zksync ZkSync client
+     * @param signer Signer of the wallet transactions
+     * @param transactionReceiptProcessor Processor used for waiting transaction receipts
+     * @param feeProvider Provider of gas price and gas limit
+     * @param executor Executor used for signing and encoding of the transactions and for waiting receipts with blocking processors
+     * @param nonceManager Local nonce allocator of the signer address, if null then nonce is read from the chain for every transaction
+     * @param networkContext Cache of the network constants, e.g. bridge addresses
+     */
     public ZkSyncWallet(ZkSync zksync, EthSigner signer, TransactionReceiptProcessor transactionReceiptProcessor,
-                        ZkTransactionFeeProvider feeProvider) {
+                        ZkTransactionFeeProvider feeProvider, Executor executor, @Nullable NonceManager nonceManager,
+                        ZkSyncNetworkContext networkContext) {
         this.zksync = zksync;
         this.signer = signer;
         this.transactionReceiptProcessor = transactionReceiptProcessor;
         this.feeProvider = feeProvider;
+        this.executor = executor;
+        this.nonceManager = nonceManager;
+        this.networkContext = networkContext;
+    }
+
+    /**
+     * @param zksync ZkSync client
+     * @param signer Signer of the wallet transactions
+     * @param transactionReceiptProcessor Processor used for waiting transaction receipts
+     * @param feeProvider Provider of gas price and gas limit
+     * @param executor Executor used for signing and encoding of the transactions and for waiting receipts with blocking processors
+     * @param nonceManager Local nonce allocator of the signer address, if null then nonce is read from the chain for every transaction
+     */
+    public ZkSyncWallet(ZkSync zksync, EthSigner signer, TransactionReceiptProcessor transactionReceiptProcessor,
+                        ZkTransactionFeeProvider feeProvider, Executor executor, @Nullable NonceManager nonceManager) {
+        this(zksync, signer, transactionReceiptProcessor, feeProvider, executor, nonceManager, ZkSyncNetworkContext.of(zksync));
+    }
+
+    public ZkSyncWallet(ZkSync zksync, EthSigner signer, TransactionReceiptProcessor transactionReceiptProcessor,
+                        ZkTransactionFeeProvider feeProvider, Executor executor) {
+        this(zksync, signer, transactionReceiptProcessor, feeProvider, executor, null);
+    }
+
+    public ZkSyncWallet(ZkSync zksync, EthSigner signer, TransactionReceiptProcessor transactionReceiptProcessor,
+                        ZkTransactionFeeProvider feeProvider) {
+        this(zksync, signer, transactionReceiptProcessor, feeProvider, ZkSyncExecutors.getDefault());
     }
 
     public ZkSyncWallet(ZkSync zksync, EthSigner signer) {
-        this(zksync, signer, new ZkSyncTransactionReceiptProcessor(zksync, DEFAULT_POLLING_FREQUENCY, DEFAULT_POLLING_ATTEMPTS_PER_TX_HASH),
+        this(zksync, signer, new ZkSyncAsyncTransactionReceiptProcessor(zksync),
                 new DefaultTransactionFeeProvider(zksync, Token.ETH));
     }
 
     public ZkSyncWallet(ZkSync zksync, EthSigner signer, Token feeToken) {
-        this(zksync, signer, new ZkSyncTransactionReceiptProcessor(zksync, DEFAULT_POLLING_FREQUENCY, DEFAULT_POLLING_ATTEMPTS_PER_TX_HASH),
+        this(zksync, signer, new ZkSyncAsyncTransactionReceiptProcessor(zksync),
                 new DefaultTransactionFeeProvider(zksync, feeToken));
     }
 
@@ -116,31 +176,18 @@ public class ZkSyncWallet {
             txTo = to;
             txAmount = amount;
         } else {
-            Function function = ERC20.encodeTransfer(to, amount);
-            calldata = FunctionEncoder.encode(function);
+            calldata = Erc20Calls.TRANSFER.encodeToHex(to, amount);
             txTo = tokenToUse.getL2Address();
             txAmount = null;
         }
-        return new RemoteCall<>(() -> {
-            BigInteger nonceToUse = nonce != null ? nonce : getNonce().send();
-
-            Transaction estimate = Transaction.createFunctionCallTransaction(
-                    signer.getAddress(),
-                    txTo,
-                    BigInteger.ZERO,
-                    BigInteger.ZERO,
-                    txAmount,
-                    calldata
-            );
-
-            EthSendTransaction sent = estimateAndSend(estimate, nonceToUse).join();
-
-            try {
-                return this.transactionReceiptProcessor.waitForTransactionReceipt(sent.getTransactionHash());
-            } catch (IOException | TransactionException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        return sendAndWait(() -> CompletableFuture.completedFuture(Transaction.createFunctionCallTransaction(
+                signer.getAddress(),
+                txTo,
+                BigInteger.ZERO,
+                BigInteger.ZERO,
+                txAmount,
+                calldata
+        )), nonce);
     }
 
     /**
@@ -178,38 +225,23 @@ public class ZkSyncWallet {
     public RemoteCall<TransactionReceipt> withdraw(String to, BigInteger amount, @Nullable Token token, @Nullable BigInteger nonce) {
         Token tokenToUse = token == null ? Token.ETH : token;
 
-        Function function = new Function(
-                IL2Bridge.FUNC_WITHDRAW,
-                Arrays.asList(new Address(to),
-                        new Address(tokenToUse.getL2Address()),
-                        new Uint256(amount)),
-                Collections.emptyList());
-        String calldata = FunctionEncoder.encode(function);
-        return new RemoteCall<>(() -> {
-            BigInteger nonceToUse = nonce != null ? nonce : getNonce().send();
+        String calldata = L2Calls.WITHDRAW.encodeToHex(to, tokenToUse.getL2Address(), amount);
+        return sendAndWait(() -> networkContext.getBridgeAddresses().thenApply(bridges -> {
             String l2Bridge;
             if (tokenToUse.isETH()) {
-                l2Bridge = zksync.zksGetBridgeContracts().send().getResult().getL2EthDefaultBridge();
+                l2Bridge = bridges.getL2EthDefaultBridge();
             } else {
-                l2Bridge = zksync.zksGetBridgeContracts().send().getResult().getL2Erc20DefaultBridge();
+                l2Bridge = bridges.getL2Erc20DefaultBridge();
             }
 
-            Transaction estimate = Transaction.createFunctionCallTransaction(
+            return Transaction.createFunctionCallTransaction(
                     signer.getAddress(),
                     l2Bridge,
                     BigInteger.ZERO,
                     BigInteger.ZERO,
                     calldata
             );
-
-            EthSendTransaction sent = estimateAndSend(estimate, nonceToUse).join();
-
-            try {
-                return this.transactionReceiptProcessor.waitForTransactionReceipt(sent.getTransactionHash());
-            } catch (IOException | TransactionException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        }), nonce);
     }
 
     /**
@@ -243,25 +275,13 @@ public class ZkSyncWallet {
      */
     public RemoteCall<TransactionReceipt> deploy(byte[] bytecode, @Nullable byte[] calldata,
                                                  @Nullable BigInteger nonce) {
-        return new RemoteCall<>(() -> {
-            BigInteger nonceToUse = nonce != null ? nonce : getNonce().send();
-
-            Transaction estimate = Transaction.create2ContractTransaction(
-                    signer.getAddress(),
-                    BigInteger.ZERO,
-                    BigInteger.ZERO,
-                    Numeric.toHexString(bytecode),
-                    calldata != null ? Numeric.toHexString(calldata) : "0x"
-            );
-
-            EthSendTransaction sent = estimateAndSend(estimate, nonceToUse).join();
-
-            try {
-                return this.transactionReceiptProcessor.waitForTransactionReceipt(sent.getTransactionHash());
-            } catch (IOException | TransactionException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        return sendAndWait(() -> CompletableFuture.completedFuture(Transaction.create2ContractTransaction(
+                signer.getAddress(),
+                BigInteger.ZERO,
+                BigInteger.ZERO,
+                Numeric.toHexString(bytecode),
+                calldata != null ? Numeric.toHexString(calldata) : "0x"
+        )), nonce);
     }
 
     /**
@@ -284,26 +304,13 @@ public class ZkSyncWallet {
      * @return Prepared remote call of transaction
      */
     public RemoteCall<TransactionReceipt> execute(String contractAddress, Function function, @Nullable BigInteger nonce) {
-        return new RemoteCall<>(() -> {
-            BigInteger nonceToUse = nonce != null ? nonce : getNonce().send();
-            String calldata = FunctionEncoder.encode(function);
-
-            Transaction estimate = Transaction.createFunctionCallTransaction(
-                    signer.getAddress(),
-                    contractAddress,
-                    BigInteger.ZERO,
-                    BigInteger.ZERO,
-                    calldata
-            );
-
-            EthSendTransaction sent = estimateAndSend(estimate, nonceToUse).join();
-
-            try {
-                return this.transactionReceiptProcessor.waitForTransactionReceipt(sent.getTransactionHash());
-            } catch (IOException | TransactionException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        return sendAndWait(() -> CompletableFuture.completedFuture(Transaction.createFunctionCallTransaction(
+                signer.getAddress(),
+                contractAddress,
+                BigInteger.ZERO,
+                BigInteger.ZERO,
+                FunctionEncoder.encode(function)
+        )), nonce);
     }
 
     /**
@@ -357,14 +364,35 @@ public class ZkSyncWallet {
      */
     public RemoteCall<BigInteger> getBalance(String address, Token token, DefaultBlockParameter at) {
         if (token.isETH()) {
-            return new RemoteCall<>(() ->
-                    this.zksync.ethGetBalance(address, at).sendAsync().join().getBalance());
+            return new AsyncRemoteCall<>(() ->
+                    this.zksync.ethGetBalance(address, at).sendAsync().thenApply(EthGetBalance::getBalance));
         } else {
-            ERC20 erc20 = ERC20.load(token.getL2Address(), this.zksync, new ReadonlyTransactionManager(this.zksync, getSigner().getAddress()), new DefaultGasProvider());
-            return erc20.balanceOf(address);
+            org.web3j.protocol.core.methods.request.Transaction call = org.web3j.protocol.core.methods.request.Transaction
+                    .createEthCallTransaction(signer.getAddress(), token.getL2Address(), BulkBalanceReader.balanceOfCalldata(address));
+            return new AsyncRemoteCall<>(() -> this.zksync.ethCall(call, at).sendAsync().thenApply(response -> {
+                if (response.hasError()) {
+                    throw new JsonRpcResponseException(response);
+                } else if (response.isReverted() || Numeric.cleanHexPrefix(response.getValue()).isEmpty()) {
+                    throw new ContractCallException("balanceOf call failed: " + response.getRevertReason());
+                }
+                return Numeric.toBigInt(response.getValue());
+            }));
         }
     }
 
+    /**
+     * Get balances of many wallets in many tokens, reading them in JSON-RPC batches.
+     * See {@link BulkBalanceReader} for reading through a multicall contract.
+     *
+     * @param addresses Addresses of the wallets
+     * @param tokens Tokens supported by ZkSync
+     * @param at Block variant
+     * @return Future of the balances matrix
+     */
+    public CompletableFuture<BalanceMatrix> getBalances(List<String> addresses, List<Token> tokens, DefaultBlockParameter at) {
+        return new BulkBalanceReader(zksync).getBalances(addresses, tokens, at);
+    }
+
     /**
      * Get nonce for wallet at block {@link DefaultBlockParameter} (wallet address gets from {@link EthSigner})
      * also see {@link org.web3j.protocol.core.DefaultBlockParameterName}, {@link org.web3j.protocol.core.DefaultBlockParameterNumber}, {@link ZkBlockParameterName}
@@ -372,9 +400,9 @@ public class ZkSyncWallet {
      * @return Prepared get nonce call
      */
     public RemoteCall<BigInteger> getNonce(DefaultBlockParameter at) {
-        return new RemoteCall<>(() -> this.zksync
-                .ethGetTransactionCount(signer.getAddress(), at).sendAsync().join()
-                .getTransactionCount());
+        return new AsyncRemoteCall<>(() -> this.zksync
+                .ethGetTransactionCount(signer.getAddress(), at).sendAsync()
+                .thenApply(EthGetTransactionCount::getTransactionCount));
     }
 
     /**
@@ -390,53 +418,181 @@ public class ZkSyncWallet {
     }
 
     public RemoteCall<TransactionReceipt> sendMessageToL1(byte[] message, @Nullable BigInteger nonce) {
-        return new RemoteCall<>(() -> {
-            BigInteger nonceToUse = nonce != null ? nonce : getNonce().send();
-            String calldata = FunctionEncoder.encode(IL2Messenger.encodeSendToL1(message));
+        return sendAndWait(() -> CompletableFuture.completedFuture(Transaction.createFunctionCallTransaction(
+                signer.getAddress(),
+                ZkSyncAddresses.MESSENGER_ADDRESS,
+                BigInteger.ZERO,
+                BigInteger.ZERO,
+                L2Calls.SEND_TO_L1.encodeToHex(message)
+        )), nonce);
+    }
 
-            Transaction estimate = Transaction.createFunctionCallTransaction(
-                    signer.getAddress(),
-                    ZkSyncAddresses.MESSENGER_ADDRESS,
-                    BigInteger.ZERO,
-                    BigInteger.ZERO,
-                    calldata
-            );
+    /**
+     * Find token supported by ZkSync in the {@link io.zksync.protocol.TokenRegistry} of the wallet network context,
+     * tokens are fetched once and then resolved without network calls.
+     *
+     * @param addressOrSymbol L2 address, L1 address or symbol of the token
+     * @return Future of the token, failed with {@link IllegalArgumentException} if the token isn't confirmed
+     */
+    public CompletableFuture<Token> resolveToken(String addressOrSymbol) {
+        return networkContext.getTokenRegistry().resolve(addressOrSymbol)
+                .thenApply(token -> token.orElseThrow(() -> new IllegalArgumentException("Unknown token: " + addressOrSymbol)));
+    }
 
-            EthSendTransaction sent = estimateAndSend(estimate, nonceToUse).join();
+    /**
+     * Wait for the transaction receipt using the wallet receipt processor. Processors implementing
+     * {@link AsyncTransactionReceiptProcessor} don't block any thread, others block a thread of the wallet executor.
+     *
+     * @param transactionHash Hash of the sent transaction
+     * @return Future of the transaction receipt
+     */
+    public CompletableFuture<TransactionReceipt> waitForTransactionReceipt(String transactionHash) {
+        if (transactionReceiptProcessor instanceof AsyncTransactionReceiptProcessor) {
+            return ((AsyncTransactionReceiptProcessor) transactionReceiptProcessor).waitForTransactionReceiptAsync(transactionHash);
+        }
 
+        return CompletableFuture.supplyAsync(() -> {
             try {
-                return this.transactionReceiptProcessor.waitForTransactionReceipt(sent.getTransactionHash());
+                return transactionReceiptProcessor.waitForTransactionReceipt(transactionHash);
             } catch (IOException | TransactionException e) {
-                throw new RuntimeException(e);
+                throw new CompletionException(e);
             }
+        }, executor);
+    }
+
+    /**
+     * Estimate, sign and send transaction without blocking on any network call.
+     * Gas limit, gas price and nonce are requested in parallel, signing runs on the wallet executor.
+     *
+     * @param transaction Transaction data, gas fields are estimated
+     * @param nonce Custom nonce value of the wallet, if null then nonce is reserved from {@link NonceManager}
+     *              or read at `COMMITTED` block when the wallet has no nonce manager
+     * @return Future of the sent transaction response
+     */
+    public CompletableFuture<EthSendTransaction> estimateAndSend(Transaction transaction, @Nullable BigInteger nonce) {
+        return estimateAndSend(transaction, nonce, null);
+    }
+
+    /**
+     * Send transactions of the stream, reporting the progress of each one as status events up to
+     * {@link io.zksync.transaction.response.TransactionStatus#INCLUDED}. See {@link #sendTransactions(Publisher, int, FinalizedBlockTracker)}.
+     * Wallets without {@link NonceManager} send transactions one by one, as every transaction reads its nonce from the chain.
+     *
+     * @param transactions Stream of transactions data, gas fields are estimated
+     * @return Stream of status events
+     */
+    public Flowable<TransactionStatusEvent> sendTransactions(Publisher<Transaction> transactions) {
+        return sendTransactions(transactions, nonceManager != null ? DEFAULT_STREAM_CONCURRENCY : 1, null);
+    }
+
+    /**
+     * Send transactions of the stream, reporting the progress of each one as status events.
+     * Every transaction emits {@code SIGNED}, {@code SUBMITTED}, {@code INCLUDED} and {@code FINALIZED}
+     * when the finalization tracker is given, or {@code FAILED} at the stage it failed, failed transactions
+     * don't terminate the stream. Events of different transactions are interleaved.
+     *
+     * <p>Next transaction is requested from the source only after all events of a finished transaction are
+     * consumed, so slow subscribers slow down sending instead of buffering events.
+     *
+     * @param transactions Stream of transactions data, gas fields are estimated
+     * @param maxConcurrency Maximum amount of transactions processed at once, above 1 requires {@link NonceManager}
+     * @param finalization Tracker used for {@code FINALIZED} events, if null then events end at {@code INCLUDED}
+     * @return Stream of status events
+     */
+    public Flowable<TransactionStatusEvent> sendTransactions(Publisher<Transaction> transactions, int maxConcurrency,
+                                                            @Nullable FinalizedBlockTracker finalization) {
+        return Flowable.defer(() -> {
+            AtomicLong index = new AtomicLong();
+            return Flowable.fromPublisher(transactions)
+                    .flatMap(transaction -> sendWithStatus(index.getAndIncrement(), transaction, finalization), maxConcurrency);
         });
     }
 
-    private CompletableFuture<EthSendTransaction> estimateAndSend(Transaction transaction, BigInteger nonce) {
-        return CompletableFuture
-                .supplyAsync(() -> {
-                    long chainId = signer.getDomain().join().getChainId().getValue().longValue();
-                    BigInteger gas = getFeeProvider().getGasLimit(transaction);
-                    BigInteger gasPrice = getFeeProvider().getGasPrice();
+    private Flowable<TransactionStatusEvent> sendWithStatus(long index, Transaction transaction, @Nullable FinalizedBlockTracker finalization) {
+        return Flowable.create(emitter -> {
+            AtomicReference<TransactionStatusEvent> last = new AtomicReference<>();
+            Consumer<TransactionStatusEvent> emit = event -> {
+                last.set(event);
+                emitter.onNext(event);
+            };
+
+            CompletableFuture<?> progress = estimateAndSend(transaction, null,
+                    signed -> emit.accept(TransactionStatusEvent.signed(index, transaction, Numeric.toHexString(signed))))
+                    .thenCompose(sent -> {
+                        emit.accept(last.get().submitted(sent.getTransactionHash()));
+                        return waitForTransactionReceipt(sent.getTransactionHash());
+                    })
+                    .thenCompose(receipt -> {
+                        feeProvider.reportGasUsed(transaction, receipt.getGasUsed());
+                        emit.accept(last.get().included(receipt));
+                        if (finalization == null) {
+                            return CompletableFuture.completedFuture(null);
+                        }
+                        return finalization.waitForFinalization(receipt.getBlockNumber())
+                                .thenRun(() -> emit.accept(last.get().finalized()));
+                    })
+                    .whenComplete((ignored, error) -> {
+                        if (error != null) {
+                            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                            emitter.onNext(TransactionStatusEvent.failed(index, transaction, last.get(), cause));
+                        }
+                        emitter.onComplete();
+                    });
+            emitter.setCancellable(() -> progress.cancel(false));
+        }, BackpressureStrategy.BUFFER);
+    }
+
+    private CompletableFuture<EthSendTransaction> estimateAndSend(Transaction transaction, @Nullable BigInteger nonce,
+                                                                  @Nullable Consumer<byte[]> onSigned) {
+        CompletableFuture<Eip712Domain> domainFuture = signer.getDomain();
+        CompletableFuture<BigInteger> gasFuture = getFeeProvider().getGasLimitAsync(transaction);
+        CompletableFuture<BigInteger> gasPriceFuture = getFeeProvider().getGasPriceAsync();
+        CompletableFuture<BigInteger> nonceFuture;
+        if (nonce != null) {
+            nonceFuture = CompletableFuture.completedFuture(nonce);
+        } else if (nonceManager != null) {
+            // Reserve as late as possible, so transactions reach the node in nonce order
+            nonceFuture = CompletableFuture.allOf(domainFuture, gasFuture, gasPriceFuture)
+                    .thenCompose(ignored -> nonceManager.reserve());
+        } else {
+            nonceFuture = this.zksync.ethGetTransactionCount(signer.getAddress(), ZkBlockParameterName.COMMITTED).sendAsync()
+                    .thenApply(response -> {
+                        if (response.hasError()) {
+                            throw new JsonRpcResponseException(response);
+                        }
+                        return response.getTransactionCount();
+                    });
+        }
 
+        AtomicBoolean dispatched = new AtomicBoolean();
+        CompletableFuture<EthSendTransaction> sent = CompletableFuture.allOf(domainFuture, nonceFuture, gasFuture, gasPriceFuture)
+                .thenComposeAsync(ignored -> {
+                    Eip712Domain domain = domainFuture.join();
                     Transaction712 prepared = new Transaction712(
-                            chainId,
-                            nonce,
-                            gas,
+                            domain.getChainId().getValue().longValue(),
+                            nonceFuture.join(),
+                            gasFuture.join(),
                             transaction.getTo(),
                             transaction.getValueNumber(),
                             transaction.getData(),
                             BigInteger.valueOf(100000000L), // TODO: Estimate correct one
-                            gasPrice,
+                            gasPriceFuture.join(),
                             transaction.getFrom(),
                             transaction.getEip712Meta()
                     );
 
-                    String signature = signer.getDomain().thenCompose(domain -> signer.signTypedData(domain, prepared)).join();
-                    byte[] signed = TransactionEncoder.encode(prepared, TransactionEncoder.getSignatureData(signature));
-
-                    return this.zksync.ethSendRawTransaction(Numeric.toHexString(signed))
-                            .sendAsync().join();
+                    return signer.signTypedData(domain, prepared)
+                            .thenApply(signature -> {
+                                byte[] signed = TransactionEncoder.encode(prepared, TransactionEncoder.getSignatureData(signature));
+                                if (onSigned != null) {
+                                    onSigned.accept(signed);
+                                }
+                                return signed;
+                            });
+                }, executor)
+                .thenCompose(signed -> {
+                    dispatched.set(true);
+                    return this.zksync.ethSendRawTransaction(Numeric.toHexString(signed)).sendAsync();
                 })
                 .thenApply(response -> {
                     if (response.hasError()) {
@@ -445,6 +601,33 @@ public class ZkSyncWallet {
                         return response;
                     }
                 });
+
+        sent = sent.whenComplete((response, error) -> {
+            if (error != null) {
+                feeProvider.reportFailure(transaction, error);
+            }
+        });
+
+        if (nonce == null && nonceManager != null) {
+            return sent.whenComplete((response, error) -> {
+                if (error != null && nonceFuture.isDone() && !nonceFuture.isCompletedExceptionally()) {
+                    nonceManager.handleError(nonceFuture.join(), error, dispatched.get());
+                }
+            });
+        }
+
+        return sent;
+    }
+
+    private RemoteCall<TransactionReceipt> sendAndWait(Supplier<CompletableFuture<Transaction>> estimate, @Nullable BigInteger nonce) {
+        return new AsyncRemoteCall<>(() -> estimate.get()
+                .thenCompose(transaction -> estimateAndSend(transaction, nonce)
+                        .thenCompose(sent -> waitForTransactionReceipt(sent.getTransactionHash()))
+                        .whenComplete((receipt, error) -> {
+                            if (receipt != null) {
+                                feeProvider.reportGasUsed(transaction, receipt.getGasUsed());
+                            }
+                        })));
     }
 
 }
@@ -0,0 +1,279 @@
+package io.zksync;
+
+import io.zksync.crypto.signer.EthSigner;
+import io.zksync.protocol.ZkSync;
+import io.zksync.protocol.core.Token;
+import io.zksync.transaction.fee.ZkTransactionFeeProvider;
+import io.zksync.transaction.manager.NonceManager;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.protocol.core.RemoteCall;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.tx.response.TransactionReceiptProcessor;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool of wallets sending transactions from many accounts, so throughput isn't limited by the nonce sequence of one address.
+ * Every wallet is a lane with its own nonce and limit of transactions in flight.
+ *
+ * <p>Sending never blocks the caller: while the chosen lane is full transactions wait in its queue and are sent
+ * as soon as transactions in flight are confirmed. Use {@link #isSaturated()} and {@link #getPendingCount()} for backpressure.
+ */
+public class ZkSyncWalletPool {
+
+    public enum Routing {
+        /**
+         * Transactions with the same routing key (the recipient of transfers) always go through the same wallet,
+         * so they are ordered. Contract calls without the key are spread round-robin
+         */
+        RECIPIENT_HASH,
+        /**
+         * Transactions go through the wallet with the fewest pending transactions
+         */
+        LEAST_PENDING
+    }
+
+    @Getter
+    private final List<ZkSyncWallet> wallets;
+    private final List<Lane> lanes;
+    private final Routing routing;
+    private final int maxInFlightPerWallet;
+    private final AtomicInteger nextLane = new AtomicInteger();
+
+    /**
+     * Create wallet per signer, every wallet gets own {@link NonceManager}.
+     *
+     * @param zksync ZkSync client
+     * @param signers Signers of the pool accounts
+     * @param transactionReceiptProcessor Processor used for waiting transaction receipts
+     * @param feeProvider Provider of gas price and gas limit shared by all wallets
+     * @param executor Executor used for signing and encoding of the transactions
+     * @param maxInFlightPerWallet Maximum amount of not confirmed transactions of one wallet
+     * @param routing Routing of the transactions to wallets
+     */
+    public ZkSyncWalletPool(ZkSync zksync, List<? extends EthSigner> signers, TransactionReceiptProcessor transactionReceiptProcessor,
+                            ZkTransactionFeeProvider feeProvider, Executor executor, int maxInFlightPerWallet, Routing routing) {
+        this(createWallets(zksync, signers, transactionReceiptProcessor, feeProvider, executor), maxInFlightPerWallet, routing);
+    }
+
+    /**
+     * @param wallets Wallets of the pool, should use different accounts and have {@link NonceManager} to pipeline sends
+     * @param maxInFlightPerWallet Maximum amount of not confirmed transactions of one wallet
+     * @param routing Routing of the transactions to wallets
+     */
+    public ZkSyncWalletPool(List<ZkSyncWallet> wallets, int maxInFlightPerWallet, Routing routing) {
+        if (wallets.isEmpty() || maxInFlightPerWallet <= 0) {
+            throw new IllegalArgumentException("Pool requires wallets and positive in-flight limit");
+        }
+        this.wallets = Collections.unmodifiableList(new ArrayList<>(wallets));
+        this.routing = routing;
+        this.maxInFlightPerWallet = maxInFlightPerWallet;
+        this.lanes = new ArrayList<>(wallets.size());
+        for (ZkSyncWallet wallet : wallets) {
+            lanes.add(new Lane(wallet, maxInFlightPerWallet));
+        }
+    }
+
+    /**
+     * Transfer coins or tokens from one of the pool wallets.
+     *
+     * @param to Receiver address
+     * @param amount Amount of funds to be transferred in minimal denomination
+     * @param token Token object supported by ZkSync, ETH if null
+     * @return Future of the transaction receipt
+     */
+    public CompletableFuture<TransactionReceipt> transfer(String to, BigInteger amount, @Nullable Token token) {
+        Lane lane = route(to);
+        return lane.submit(() -> lane.wallet.transfer(to, amount, token, null));
+    }
+
+    /**
+     * Execute function of deployed contract from one of the pool wallets.
+     *
+     * @param contractAddress Address of deployed contract
+     * @param function Prepared function call with or without parameters
+     * @return Future of the transaction receipt
+     */
+    public CompletableFuture<TransactionReceipt> execute(String contractAddress, Function function) {
+        return execute(contractAddress, function, null);
+    }
+
+    /**
+     * Execute function of deployed contract from one of the pool wallets.
+     *
+     * @param contractAddress Address of deployed contract
+     * @param function Prepared function call with or without parameters
+     * @param routingKey Calls with the same key go through the same wallet with {@link Routing#RECIPIENT_HASH},
+     *                   if null then calls are spread round-robin
+     * @return Future of the transaction receipt
+     */
+    public CompletableFuture<TransactionReceipt> execute(String contractAddress, Function function, @Nullable String routingKey) {
+        Lane lane = route(routingKey);
+        return lane.submit(() -> lane.wallet.execute(contractAddress, function, null));
+    }
+
+    /**
+     * @return Amount of not confirmed transactions of all wallets
+     */
+    public int getPendingCount() {
+        int pending = 0;
+        for (Lane lane : lanes) {
+            pending += lane.pending.get();
+        }
+        return pending;
+    }
+
+    /**
+     * @param walletIndex Index of the wallet in {@link #getWallets()}
+     * @return Amount of not confirmed transactions of the wallet
+     */
+    public int getPendingCount(int walletIndex) {
+        return lanes.get(walletIndex).pending.get();
+    }
+
+    /**
+     * @return Maximum amount of transactions in flight of all wallets
+     */
+    public int getCapacity() {
+        return maxInFlightPerWallet * lanes.size();
+    }
+
+    /**
+     * @return Amount of transactions that can be sent without waiting
+     */
+    public int getAvailableCapacity() {
+        int available = 0;
+        for (Lane lane : lanes) {
+            available += lane.getAvailable();
+        }
+        return available;
+    }
+
+    /**
+     * @return true if every wallet reached the in-flight limit
+     */
+    public boolean isSaturated() {
+        return getAvailableCapacity() == 0;
+    }
+
+    private Lane route(@Nullable String key) {
+        if (routing == Routing.RECIPIENT_HASH) {
+            int index = key != null ? key.toLowerCase().hashCode() : nextLane.getAndIncrement();
+            return lanes.get(Math.floorMod(index, lanes.size()));
+        }
+
+        Lane best = lanes.get(0);
+        for (int i = 1; i < lanes.size(); i++) {
+            Lane lane = lanes.get(i);
+            if (lane.pending.get() < best.pending.get()) {
+                best = lane;
+            }
+        }
+        return best;
+    }
+
+    private static List<ZkSyncWallet> createWallets(ZkSync zksync, List<? extends EthSigner> signers,
+                                                    TransactionReceiptProcessor transactionReceiptProcessor,
+                                                    ZkTransactionFeeProvider feeProvider, Executor executor) {
+        List<ZkSyncWallet> wallets = new ArrayList<>(signers.size());
+        for (EthSigner signer : signers) {
+            wallets.add(new ZkSyncWallet(zksync, signer, transactionReceiptProcessor, feeProvider, executor,
+                    new NonceManager(zksync, signer.getAddress())));
+        }
+        return wallets;
+    }
+
+    private static class Lane {
+        private final ZkSyncWallet wallet;
+        private final int maxInFlight;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final Queue<Task> queue = new ArrayDeque<>();
+        private int inFlight;
+
+        Lane(ZkSyncWallet wallet, int maxInFlight) {
+            this.wallet = wallet;
+            this.maxInFlight = maxInFlight;
+        }
+
+        CompletableFuture<TransactionReceipt> submit(Supplier<RemoteCall<TransactionReceipt>> call) {
+            Task task = new Task(call);
+            pending.incrementAndGet();
+            synchronized (this) {
+                if (inFlight >= maxInFlight) {
+                    queue.add(task);
+                    return task.result;
+                }
+                inFlight++;
+            }
+            run(task);
+            return task.result;
+        }
+
+        synchronized int getAvailable() {
+            return maxInFlight - inFlight;
+        }
+
+        private void run(@Nullable Task task) {
+            // Loop instead of recursion when sends complete immediately, e.g. fail on the caller thread
+            while (task != null) {
+                CompletableFuture<TransactionReceipt> sent;
+                try {
+                    sent = task.call.get().sendAsync();
+                } catch (RuntimeException e) {
+                    sent = new CompletableFuture<>();
+                    sent.completeExceptionally(e);
+                }
+
+                Task current = task;
+                if (!sent.isDone()) {
+                    sent.whenComplete((receipt, error) -> {
+                        finish(current, receipt, error);
+                        run(next());
+                    });
+                    return;
+                }
+
+                sent.whenComplete((receipt, error) -> finish(current, receipt, error));
+                task = next();
+            }
+        }
+
+        private void finish(Task task, @Nullable TransactionReceipt receipt, @Nullable Throwable error) {
+            pending.decrementAndGet();
+            if (error != null) {
+                task.result.completeExceptionally(error);
+            } else {
+                task.result.complete(receipt);
+            }
+        }
+
+        @Nullable
+        private synchronized Task next() {
+            Task next = queue.poll();
+            if (next == null) {
+                inFlight--;
+            }
+            return next;
+        }
+    }
+
+    private static class Task {
+        private final Supplier<RemoteCall<TransactionReceipt>> call;
+        private final CompletableFuture<TransactionReceipt> result = new CompletableFuture<>();
+
+        Task(Supplier<RemoteCall<TransactionReceipt>> call) {
+            this.call = call;
+        }
+    }
+}
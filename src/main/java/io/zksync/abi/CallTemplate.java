@@ -0,0 +1,237 @@
+package io.zksync.abi;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.web3j.crypto.Hash;
+import org.web3j.utils.Numeric;
+
+/**
+ * Precompiled calldata layout of a contract function.
+ *
+ * <p>The selector and the head layout are computed once, then every call writes its arguments straight into
+ * a single calldata array at fixed offsets, without building {@link org.web3j.abi.datatypes.Function} objects
+ * or intermediate hex strings. Supported parameter types are {@code address}, {@code uint256}, {@code bool},
+ * {@code bytes32} and dynamic {@code bytes}.
+ *
+ * <p>Arguments are passed in the declaration order: {@link String} for {@code address},
+ * {@link BigInteger} for {@code uint256}, {@link Boolean} for {@code bool} and {@code byte[]} for
+ * {@code bytes32} and {@code bytes}. Instances are immutable and thread-safe.
+ */
+public final class CallTemplate {
+
+    private static final int SELECTOR_SIZE = 4;
+    private static final int FIELD_SIZE = 32;
+    private static final int ADDRESS_SIZE = 20;
+
+    private enum Kind {
+        ADDRESS, UINT256, BOOL, BYTES32, BYTES
+    }
+
+    private final String signature;
+    private final byte[] selector;
+    private final Kind[] kinds;
+    private final boolean dynamic;
+
+    private CallTemplate(String signature, byte[] selector, Kind[] kinds) {
+        this.signature = signature;
+        this.selector = selector;
+        this.kinds = kinds;
+        this.dynamic = Arrays.asList(kinds).contains(Kind.BYTES);
+    }
+
+    /**
+     * Compile template of the function.
+     *
+     * @param signature Canonical function signature, for example {@code transfer(address,uint256)}
+     * @return Compiled template
+     * @throws IllegalArgumentException if the signature is malformed or contains unsupported types
+     */
+    public static CallTemplate of(String signature) {
+        int open = signature.indexOf('(');
+        if (open <= 0 || !signature.endsWith(")")) {
+            throw new IllegalArgumentException("Malformed function signature: " + signature);
+        }
+        String parameters = signature.substring(open + 1, signature.length() - 1);
+        String[] types = parameters.isEmpty() ? new String[0] : parameters.split(",");
+        Kind[] kinds = new Kind[types.length];
+        for (int i = 0; i < types.length; i++) {
+            kinds[i] = kindOf(types[i], signature);
+        }
+        return new CallTemplate(signature, selector(signature), kinds);
+    }
+
+    /**
+     * Compute selector of the function, also for signatures with types not supported by templates.
+     *
+     * @param signature Canonical function signature, for example {@code transfer(address,uint256)}
+     * @return 4 bytes function selector
+     */
+    public static byte[] selector(String signature) {
+        return Arrays.copyOf(Hash.sha3(signature.getBytes()), SELECTOR_SIZE);
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    /**
+     * @return Hex encoded 4 bytes function selector
+     */
+    public String getSelector() {
+        return Numeric.toHexString(selector);
+    }
+
+    /**
+     * @return 4 bytes function selector
+     */
+    public byte[] getSelectorBytes() {
+        return selector.clone();
+    }
+
+    /**
+     * @return Amount of the function parameters
+     */
+    public int getParameterCount() {
+        return kinds.length;
+    }
+
+    /**
+     * Encode function call.
+     *
+     * @param arguments Values of the function parameters
+     * @return Calldata including the selector
+     * @throws IllegalArgumentException if the arguments do not match the parameters
+     */
+    public byte[] encode(Object... arguments) {
+        if (arguments.length != kinds.length) {
+            throw new IllegalArgumentException("Expected " + kinds.length + " arguments for " + signature
+                    + ", got " + arguments.length);
+        }
+        byte[] calldata = new byte[encodedLength(arguments)];
+        System.arraycopy(selector, 0, calldata, 0, SELECTOR_SIZE);
+
+        int head = SELECTOR_SIZE;
+        int tail = kinds.length * FIELD_SIZE;
+        for (int i = 0; i < kinds.length; i++, head += FIELD_SIZE) {
+            Object argument = arguments[i];
+            switch (kinds[i]) {
+                case ADDRESS:
+                    writeAddress(calldata, head, cast(argument, String.class, i));
+                    break;
+                case UINT256:
+                    writeUint256(calldata, head, cast(argument, BigInteger.class, i));
+                    break;
+                case BOOL:
+                    calldata[head + FIELD_SIZE - 1] = (byte) (cast(argument, Boolean.class, i) ? 1 : 0);
+                    break;
+                case BYTES32:
+                    byte[] word = cast(argument, byte[].class, i);
+                    if (word.length != FIELD_SIZE) {
+                        throw new IllegalArgumentException("bytes32 argument " + i + " must be 32 bytes long");
+                    }
+                    System.arraycopy(word, 0, calldata, head, FIELD_SIZE);
+                    break;
+                case BYTES:
+                    byte[] bytes = cast(argument, byte[].class, i);
+                    writeLong(calldata, head, tail);
+                    writeLong(calldata, SELECTOR_SIZE + tail, bytes.length);
+                    System.arraycopy(bytes, 0, calldata, SELECTOR_SIZE + tail + FIELD_SIZE, bytes.length);
+                    tail += FIELD_SIZE + padded(bytes.length);
+                    break;
+            }
+        }
+        return calldata;
+    }
+
+    /**
+     * Encode function call.
+     *
+     * @param arguments Values of the function parameters
+     * @return Hex encoded calldata including the selector
+     * @throws IllegalArgumentException if the arguments do not match the parameters
+     */
+    public String encodeToHex(Object... arguments) {
+        return Numeric.toHexString(encode(arguments));
+    }
+
+    private int encodedLength(Object[] arguments) {
+        int length = SELECTOR_SIZE + kinds.length * FIELD_SIZE;
+        if (dynamic) {
+            for (int i = 0; i < kinds.length; i++) {
+                if (kinds[i] == Kind.BYTES) {
+                    length += FIELD_SIZE + padded(cast(arguments[i], byte[].class, i).length);
+                }
+            }
+        }
+        return length;
+    }
+
+    private static void writeAddress(byte[] calldata, int offset, String address) {
+        int start = address.startsWith("0x") || address.startsWith("0X") ? 2 : 0;
+        if (address.length() - start != ADDRESS_SIZE * 2) {
+            throw new IllegalArgumentException("Invalid address: " + address);
+        }
+        int position = offset + FIELD_SIZE - ADDRESS_SIZE;
+        for (int i = start; i < address.length(); i += 2) {
+            int high = Character.digit(address.charAt(i), 16);
+            int low = Character.digit(address.charAt(i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("Invalid address: " + address);
+            }
+            calldata[position++] = (byte) ((high << 4) | low);
+        }
+    }
+
+    private static void writeUint256(byte[] calldata, int offset, BigInteger value) {
+        if (value.signum() < 0 || value.bitLength() > 256) {
+            throw new IllegalArgumentException("Value does not fit into uint256: " + value);
+        }
+        if (value.bitLength() < Long.SIZE) {
+            writeLong(calldata, offset, value.longValue());
+            return;
+        }
+        byte[] bytes = value.toByteArray();
+        int length = Math.min(bytes.length, FIELD_SIZE);
+        System.arraycopy(bytes, bytes.length - length, calldata, offset + FIELD_SIZE - length, length);
+    }
+
+    private static void writeLong(byte[] calldata, int offset, long value) {
+        for (int i = offset + FIELD_SIZE - 1; value != 0; i--, value >>>= 8) {
+            calldata[i] = (byte) value;
+        }
+    }
+
+    private static int padded(int length) {
+        return (length + FIELD_SIZE - 1) / FIELD_SIZE * FIELD_SIZE;
+    }
+
+    private static <T> T cast(Object argument, Class<T> type, int index) {
+        if (!type.isInstance(argument)) {
+            throw new IllegalArgumentException("Argument " + index + " must be " + type.getSimpleName());
+        }
+        return type.cast(argument);
+    }
+
+    private static Kind kindOf(String type, String signature) {
+        switch (type) {
+            case "address":
+                return Kind.ADDRESS;
+            case "uint256":
+                return Kind.UINT256;
+            case "bool":
+                return Kind.BOOL;
+            case "bytes32":
+                return Kind.BYTES32;
+            case "bytes":
+                return Kind.BYTES;
+            default:
+                throw new IllegalArgumentException("Unsupported type " + type + " in " + signature);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return signature;
+    }
+}
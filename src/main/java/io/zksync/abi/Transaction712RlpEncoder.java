@@ -0,0 +1,344 @@
+package io.zksync.abi;
+
+import io.zksync.methods.request.Eip712Meta;
+import io.zksync.transaction.type.Transaction712;
+import org.jetbrains.annotations.Nullable;
+import org.web3j.crypto.Sign;
+import org.web3j.utils.Assertions;
+
+import java.math.BigInteger;
+
+/**
+ * Direct RLP encoder of {@link Transaction712}. Produces the same bytes as RLP encoding of
+ * {@link Transaction712#asRlpValues(Sign.SignatureData)} prefixed with {@link Transaction712#EIP_712_TX_TYPE},
+ * but computes the exact length first and writes fields straight into one buffer: no {@code RlpType} objects,
+ * hex strings are decoded in place and the signature is not copied.
+ *
+ * <p>Null value and data are encoded as zero and empty bytes.
+ */
+public final class Transaction712RlpEncoder {
+
+    private static final int STRING_OFFSET = 0x80;
+    private static final int LIST_OFFSET = 0xc0;
+    private static final int SHORT_LIMIT = 55;
+
+    private Transaction712RlpEncoder() {
+    }
+
+    /**
+     * Encode the signed transaction into a new array of the exact size.
+     *
+     * @param transaction Transaction to encode
+     * @param signatureData Signature, may be null when the transaction has custom signature
+     * @return Encoded transaction including the type prefix
+     */
+    public static byte[] encode(Transaction712 transaction, @Nullable Sign.SignatureData signatureData) {
+        byte[] buffer = new byte[encodedLength(transaction, signatureData)];
+        encode(transaction, signatureData, buffer, 0);
+
+        return buffer;
+    }
+
+    /**
+     * Encode the signed transaction into the caller buffer, allows to reuse one buffer for many transactions.
+     *
+     * @param transaction Transaction to encode
+     * @param signatureData Signature, may be null when the transaction has custom signature
+     * @param buffer Destination buffer, should have at least {@link #encodedLength(Transaction712, Sign.SignatureData)} bytes after the offset
+     * @param offset Position of the first written byte
+     * @return Amount of written bytes
+     */
+    public static int encode(Transaction712 transaction, @Nullable Sign.SignatureData signatureData, byte[] buffer, int offset) {
+        verify(transaction, signatureData);
+        int payload = payloadLength(transaction, signatureData);
+        int total = 1 + headerLength(payload) + payload;
+        if (buffer.length - offset < total) {
+            throw new IllegalArgumentException("Buffer is too small, required " + total + " bytes");
+        }
+
+        Eip712Meta meta = transaction.getMeta();
+        int pos = offset;
+        buffer[pos++] = Transaction712.EIP_712_TX_TYPE;
+        pos = writeHeader(buffer, pos, LIST_OFFSET, payload);
+
+        pos = writeInteger(buffer, pos, transaction.getNonce());
+        pos = writeInteger(buffer, pos, transaction.getMaxPriorityFeePerGas());
+        pos = writeInteger(buffer, pos, transaction.getMaxFeePerGas());
+        pos = writeInteger(buffer, pos, transaction.getGasLimit());
+        pos = writeHex(buffer, pos, transaction.getTo());
+        pos = writeInteger(buffer, pos, transaction.getValue());
+        pos = writeHex(buffer, pos, transaction.getData());
+        pos = writeLong(buffer, pos, transaction.getChainId());
+        pos = writeBytes(buffer, pos, null);
+        pos = writeBytes(buffer, pos, null);
+        pos = writeLong(buffer, pos, transaction.getChainId());
+        pos = writeHex(buffer, pos, transaction.getFrom());
+        pos = writeInteger(buffer, pos, transaction.getErgsPerPubdata());
+
+        byte[][] factoryDeps = transaction.getFactoryDeps();
+        pos = writeHeader(buffer, pos, LIST_OFFSET, factoryDepsLength(factoryDeps));
+        if (factoryDeps != null) {
+            for (byte[] dep : factoryDeps) {
+                pos = writeBytes(buffer, pos, dep);
+            }
+        }
+
+        if (meta.getCustomSignature() != null) {
+            pos = writeBytes(buffer, pos, meta.getCustomSignature());
+        } else {
+            int length = signatureData.getR().length + signatureData.getS().length + signatureData.getV().length;
+            pos = writeHeader(buffer, pos, STRING_OFFSET, length);
+            pos = copy(buffer, pos, signatureData.getR());
+            pos = copy(buffer, pos, signatureData.getS());
+            pos = copy(buffer, pos, signatureData.getV());
+        }
+
+        if (hasPaymaster(transaction)) {
+            pos = writeHeader(buffer, pos, LIST_OFFSET, paymasterLength(transaction));
+            pos = writeHex(buffer, pos, transaction.getPaymaster());
+            pos = writeBytes(buffer, pos, transaction.getPaymasterInput());
+        } else {
+            pos = writeHeader(buffer, pos, LIST_OFFSET, 0);
+        }
+
+        return pos - offset;
+    }
+
+    /**
+     * @param transaction Transaction to encode
+     * @param signatureData Signature, may be null when the transaction has custom signature
+     * @return Exact length of the encoded transaction including the type prefix
+     */
+    public static int encodedLength(Transaction712 transaction, @Nullable Sign.SignatureData signatureData) {
+        verify(transaction, signatureData);
+        int payload = payloadLength(transaction, signatureData);
+
+        return 1 + headerLength(payload) + payload;
+    }
+
+    private static void verify(Transaction712 transaction, @Nullable Sign.SignatureData signatureData) {
+        Assertions.verifyPrecondition(signatureData != null || transaction.getMeta().getCustomSignature() != null,
+                "One of `signatureData` and `meta.customSignature` MUST be set");
+    }
+
+    private static int payloadLength(Transaction712 transaction, @Nullable Sign.SignatureData signatureData) {
+        int chainId = longLength(transaction.getChainId());
+        int length = integerLength(transaction.getNonce())
+                + integerLength(transaction.getMaxPriorityFeePerGas())
+                + integerLength(transaction.getMaxFeePerGas())
+                + integerLength(transaction.getGasLimit())
+                + hexLength(transaction.getTo())
+                + integerLength(transaction.getValue())
+                + hexLength(transaction.getData())
+                + chainId
+                + 1
+                + 1
+                + chainId
+                + hexLength(transaction.getFrom())
+                + integerLength(transaction.getErgsPerPubdata());
+
+        length += listLength(factoryDepsLength(transaction.getFactoryDeps()));
+
+        byte[] customSignature = transaction.getMeta().getCustomSignature();
+        if (customSignature != null) {
+            length += bytesLength(customSignature);
+        } else {
+            int signature = signatureData.getR().length + signatureData.getS().length + signatureData.getV().length;
+            length += headerLength(signature) + signature;
+        }
+
+        length += listLength(hasPaymaster(transaction) ? paymasterLength(transaction) : 0);
+
+        return length;
+    }
+
+    private static boolean hasPaymaster(Transaction712 transaction) {
+        return transaction.getMeta().getPaymasterParams() != null
+                && transaction.getPaymaster() != null
+                && transaction.getPaymasterInput() != null;
+    }
+
+    private static int paymasterLength(Transaction712 transaction) {
+        return hexLength(transaction.getPaymaster()) + bytesLength(transaction.getPaymasterInput());
+    }
+
+    private static int factoryDepsLength(@Nullable byte[][] factoryDeps) {
+        int length = 0;
+        if (factoryDeps != null) {
+            for (byte[] dep : factoryDeps) {
+                length += bytesLength(dep);
+            }
+        }
+        return length;
+    }
+
+    private static int listLength(int payload) {
+        return headerLength(payload) + payload;
+    }
+
+    private static int headerLength(int length) {
+        return length <= SHORT_LIMIT ? 1 : 1 + lengthOfLength(length);
+    }
+
+    private static int lengthOfLength(int length) {
+        return (Integer.SIZE - Integer.numberOfLeadingZeros(length) + 7) / 8;
+    }
+
+    private static int stringLength(int length, int firstByte) {
+        if (length == 1 && firstByte < STRING_OFFSET) {
+            return 1;
+        }
+        return headerLength(length) + length;
+    }
+
+    private static int bytesLength(@Nullable byte[] value) {
+        if (value == null || value.length == 0) {
+            return 1;
+        }
+        return stringLength(value.length, value[0] & 0xff);
+    }
+
+    private static int longLength(long value) {
+        if (value <= 0) {
+            return 1;
+        }
+        int length = (Long.SIZE - Long.numberOfLeadingZeros(value) + 7) / 8;
+        return stringLength(length, (int) value);
+    }
+
+    private static int integerLength(@Nullable BigInteger value) {
+        if (value == null || value.signum() < 1) {
+            return 1;
+        }
+        if (value.bitLength() < Long.SIZE) {
+            return longLength(value.longValue());
+        }
+        return stringLength((value.bitLength() + 7) / 8, STRING_OFFSET);
+    }
+
+    private static int hexLength(@Nullable String hex) {
+        if (hex == null) {
+            return 1;
+        }
+        int start = hexStart(hex);
+        int length = (hex.length() - start + 1) / 2;
+        if (length == 0) {
+            return 1;
+        }
+        return stringLength(length, length == 1 ? hexByte(hex, start, 0) : STRING_OFFSET);
+    }
+
+    private static int writeHeader(byte[] buffer, int pos, int offset, int length) {
+        if (length <= SHORT_LIMIT) {
+            buffer[pos++] = (byte) (offset + length);
+            return pos;
+        }
+        int lengthOfLength = lengthOfLength(length);
+        buffer[pos++] = (byte) (offset + SHORT_LIMIT + lengthOfLength);
+        for (int i = lengthOfLength - 1; i >= 0; i--) {
+            buffer[pos++] = (byte) (length >>> (8 * i));
+        }
+        return pos;
+    }
+
+    private static int writeBytes(byte[] buffer, int pos, @Nullable byte[] value) {
+        if (value == null || value.length == 0) {
+            buffer[pos++] = (byte) STRING_OFFSET;
+            return pos;
+        }
+        if (value.length == 1 && (value[0] & 0xff) < STRING_OFFSET) {
+            buffer[pos++] = value[0];
+            return pos;
+        }
+        pos = writeHeader(buffer, pos, STRING_OFFSET, value.length);
+        return copy(buffer, pos, value);
+    }
+
+    private static int writeLong(byte[] buffer, int pos, long value) {
+        if (value <= 0) {
+            buffer[pos++] = (byte) STRING_OFFSET;
+            return pos;
+        }
+        if (value < STRING_OFFSET) {
+            buffer[pos++] = (byte) value;
+            return pos;
+        }
+        int length = (Long.SIZE - Long.numberOfLeadingZeros(value) + 7) / 8;
+        buffer[pos++] = (byte) (STRING_OFFSET + length);
+        for (int i = length - 1; i >= 0; i--) {
+            buffer[pos++] = (byte) (value >>> (8 * i));
+        }
+        return pos;
+    }
+
+    private static int writeInteger(byte[] buffer, int pos, @Nullable BigInteger value) {
+        if (value == null || value.signum() < 1) {
+            buffer[pos++] = (byte) STRING_OFFSET;
+            return pos;
+        }
+        if (value.bitLength() < Long.SIZE) {
+            return writeLong(buffer, pos, value.longValue());
+        }
+        byte[] bytes = value.toByteArray();
+        int skip = bytes[0] == 0 ? 1 : 0;
+        pos = writeHeader(buffer, pos, STRING_OFFSET, bytes.length - skip);
+        System.arraycopy(bytes, skip, buffer, pos, bytes.length - skip);
+        return pos + bytes.length - skip;
+    }
+
+    private static int writeHex(byte[] buffer, int pos, @Nullable String hex) {
+        if (hex == null) {
+            buffer[pos++] = (byte) STRING_OFFSET;
+            return pos;
+        }
+        int start = hexStart(hex);
+        int length = (hex.length() - start + 1) / 2;
+        if (length == 0) {
+            buffer[pos++] = (byte) STRING_OFFSET;
+            return pos;
+        }
+        if (length == 1 && hexByte(hex, start, 0) < STRING_OFFSET) {
+            buffer[pos++] = (byte) hexByte(hex, start, 0);
+            return pos;
+        }
+        pos = writeHeader(buffer, pos, STRING_OFFSET, length);
+        for (int i = 0; i < length; i++) {
+            buffer[pos++] = (byte) hexByte(hex, start, i);
+        }
+        return pos;
+    }
+
+    private static int copy(byte[] buffer, int pos, byte[] value) {
+        System.arraycopy(value, 0, buffer, pos, value.length);
+        return pos + value.length;
+    }
+
+    private static int hexStart(String hex) {
+        return hex.length() >= 2 && hex.charAt(0) == '0' && (hex.charAt(1) == 'x' || hex.charAt(1) == 'X') ? 2 : 0;
+    }
+
+    /**
+     * Decode i-th byte of the hex string the same way as {@link org.web3j.utils.Numeric#hexStringToByteArray(String)}:
+     * odd length strings have implicit leading zero.
+     */
+    private static int hexByte(String hex, int start, int index) {
+        boolean odd = ((hex.length() - start) & 1) == 1;
+        if (odd) {
+            if (index == 0) {
+                return digit(hex.charAt(start));
+            }
+            int pos = start + 2 * index - 1;
+            return (digit(hex.charAt(pos)) << 4) | digit(hex.charAt(pos + 1));
+        }
+        int pos = start + 2 * index;
+        return (digit(hex.charAt(pos)) << 4) | digit(hex.charAt(pos + 1));
+    }
+
+    private static int digit(char c) {
+        int digit = Character.digit(c, 16);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid hex character: " + c);
+        }
+        return digit;
+    }
+}
@@ -36,6 +36,9 @@ public class TransactionEncoder extends org.web3j.crypto.TransactionEncoder {
     }
 
     public static byte[] encode(ITransaction rawTransaction, Sign.SignatureData signatureData) {
+        if (rawTransaction instanceof Transaction712) {
+            return Transaction712RlpEncoder.encode((Transaction712) rawTransaction, signatureData);
+        }
         List<RlpType> values = rawTransaction.asRlpValues(signatureData);
         RlpList rlpList = new RlpList(values);
         byte[] encoded = RlpEncoder.encode(rlpList);
@@ -44,11 +47,6 @@ public class TransactionEncoder extends org.web3j.crypto.TransactionEncoder {
                     .put(rawTransaction.getType().getRlpType())
                     .put(encoded)
                     .array();
-        } else if (rawTransaction instanceof Transaction712) {
-            return ByteBuffer.allocate(encoded.length + 1)
-                    .put(Transaction712.EIP_712_TX_TYPE)
-                    .put(encoded)
-                    .array();
         }
         return encoded;
     }
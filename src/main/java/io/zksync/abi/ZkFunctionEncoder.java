@@ -5,6 +5,8 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.web3j.abi.FunctionEncoder;
@@ -32,14 +34,17 @@ public class ZkFunctionEncoder extends FunctionEncoder {
     private static final int ABI_MEMORY_HEADER_OFFSET = 0;
     private static final int ABI_OFFSET_ENTRY_HASH = 7;
     private static final int FIELD_SIZE = 32;
-    
+
+    private static final int MAX_CACHED_METHOD_IDS = 1024;
+    private static final Map<String, String> METHOD_IDS = new ConcurrentHashMap<>();
+
     @Override
     @SuppressWarnings("rawtypes")
     public String encodeFunction(final Function function) {
         final List<Type> parameters = function.getInputParameters();
 
         final String methodSignature = buildMethodSignature(function.getName(), parameters);
-        final String methodId = buildMethodId(methodSignature);
+        final String methodId = methodId(methodSignature);
 
         final StringBuilder result = new StringBuilder();
         result.append(methodId);
@@ -47,6 +52,18 @@ public class ZkFunctionEncoder extends FunctionEncoder {
         return encodeParameters(parameters, result);
     }
 
+    private static String methodId(String methodSignature) {
+        String cached = METHOD_IDS.get(methodSignature);
+        if (cached == null) {
+            cached = buildMethodId(methodSignature);
+            if (METHOD_IDS.size() >= MAX_CACHED_METHOD_IDS) {
+                METHOD_IDS.clear();
+            }
+            METHOD_IDS.putIfAbsent(methodSignature, cached);
+        }
+        return cached;
+    }
+
     @Override
     @SuppressWarnings("rawtypes")
     public String encodeParameters(final List<Type> parameters) {
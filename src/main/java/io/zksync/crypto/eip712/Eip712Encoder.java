@@ -1,11 +1,13 @@
 package io.zksync.crypto.eip712;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.web3j.abi.datatypes.*;
@@ -16,6 +18,17 @@ import org.web3j.utils.Numeric;
 import io.zksync.crypto.signer.EthSigner;
 
 public class Eip712Encoder {
+
+    /**
+     * Maximum amount of memoized domain separators, usually there is one domain per chain
+     */
+    static final int MAX_CACHED_DOMAINS = 64;
+
+    private static final byte[] EIP712_PREFIX = EthSigner.MESSAGE_EIP712_PREFIX.getBytes(StandardCharsets.UTF_8);
+
+    private static final Map<Class<?>, byte[]> TYPE_HASHES = new ConcurrentHashMap<>();
+    private static final Map<List<Type<?>>, byte[]> DOMAIN_SEPARATORS = new ConcurrentHashMap<>();
+
     public static Bytes32 encodeValue(Type<?> value) {
         if (value instanceof Utf8String) {
             Utf8String s = (Utf8String) value;
@@ -41,21 +54,31 @@ public class Eip712Encoder {
             System.arraycopy(bytes, 0, result, 12, 20);
             return new Bytes32(result);
         } else if (value instanceof Eip712Struct) {
-            Eip712Struct struct = (Eip712Struct) value;
-            byte[] typeHash = typeHash(struct);
-            List<Pair<String, Type<?>>> members = struct.getValue().eip712types();
-            ByteBuffer bytes = ByteBuffer.allocate((members.size() + 1) * 32);
-            bytes.put(typeHash);
-            for (Pair<String, Type<?>> member : members) {
-                Bytes32 result = encodeValue(member.getValue());
-                bytes.put(result.getValue());
-            }
-            return new Bytes32(Hash.sha3(bytes.array()));
+            return new Bytes32(((Eip712Struct) value).getValue().hashStruct());
         } else {
             throw new IllegalArgumentException(String.format("Unsupported ethereum type: \"%s\"", value.getTypeAsString()));
         }
     }
 
+    /**
+     * Generic {@code hashStruct} implementation over {@link Structurable#eip712types()}.
+     *
+     * @param structure Structure to hash
+     * @return Hash of the structure
+     */
+    public static byte[] hashStruct(Structurable structure) {
+        Eip712Struct struct = structure.intoEip712Struct();
+        byte[] typeHash = cachedTypeHash(struct);
+        List<Pair<String, Type<?>>> members = structure.eip712types();
+        ByteBuffer bytes = ByteBuffer.allocate((members.size() + 1) * 32);
+        bytes.put(typeHash);
+        for (Pair<String, Type<?>> member : members) {
+            Bytes32 result = encodeValue(member.getValue());
+            bytes.put(result.getValue());
+        }
+        return Hash.sha3(bytes.array());
+    }
+
     public static String encodeType(Eip712Struct structure) {
         StringBuilder sb = new StringBuilder(structure.encodeType());
         dependencies(structure).forEach(value -> sb.append(value.encodeType()));
@@ -64,7 +87,49 @@ public class Eip712Encoder {
     }
 
     public static byte[] typeHash(Eip712Struct structure) {
-        return Hash.sha3(encodeType(structure).getBytes());
+        return cachedTypeHash(structure).clone();
+    }
+
+    /**
+     * Type hash of the structure, cached per class when {@link Structurable#hasStaticType()} is true.
+     * Returned array is shared and must not be modified.
+     */
+    static byte[] cachedTypeHash(Eip712Struct structure) {
+        Structurable value = structure.getValue();
+        if (!value.hasStaticType()) {
+            return Hash.sha3(encodeType(structure).getBytes());
+        }
+
+        byte[] cached = TYPE_HASHES.get(value.getClass());
+        if (cached == null) {
+            cached = Hash.sha3(encodeType(structure).getBytes());
+            TYPE_HASHES.putIfAbsent(value.getClass(), cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Hash of the domain structure, memoized per domain field values.
+     *
+     * @param domain EIP-712 domain
+     * @return Domain separator
+     */
+    public static byte[] domainSeparator(Eip712Domain domain) {
+        return cachedDomainSeparator(domain).clone();
+    }
+
+    private static byte[] cachedDomainSeparator(Eip712Domain domain) {
+        // Domain is mutable, so it is keyed by its current field values
+        List<Type<?>> key = Arrays.asList(domain.getName(), domain.getVersion(), domain.getChainId(), domain.getVerifyingContract());
+        byte[] cached = DOMAIN_SEPARATORS.get(key);
+        if (cached == null) {
+            cached = encodeValue(domain.intoEip712Struct()).getValue();
+            if (DOMAIN_SEPARATORS.size() >= MAX_CACHED_DOMAINS) {
+                DOMAIN_SEPARATORS.clear();
+            }
+            DOMAIN_SEPARATORS.putIfAbsent(key, cached);
+        }
+        return cached;
     }
 
     public static Set<Eip712Struct> dependencies(Eip712Struct structure) {
@@ -79,17 +144,12 @@ public class Eip712Encoder {
     }
 
     public static <S extends Structurable> byte[] typedDataToSignedBytes(Eip712Domain domain, S typedData) {
-        final ByteArrayOutputStream output = new ByteArrayOutputStream();
-
-        try {
-            output.write(EthSigner.MESSAGE_EIP712_PREFIX.getBytes());
-            output.write(Eip712Encoder.encodeValue(domain.intoEip712Struct()).getValue());
-            output.write(Eip712Encoder.encodeValue(typedData.intoEip712Struct()).getValue());
-        } catch (IOException e) {
-            throw new IllegalStateException("Error when creating ETH signature", e);
-        }
+        byte[] output = new byte[EIP712_PREFIX.length + 64];
+        System.arraycopy(EIP712_PREFIX, 0, output, 0, EIP712_PREFIX.length);
+        System.arraycopy(cachedDomainSeparator(domain), 0, output, EIP712_PREFIX.length, 32);
+        System.arraycopy(Eip712Encoder.encodeValue(typedData.intoEip712Struct()).getValue(), 0, output, EIP712_PREFIX.length + 32, 32);
 
-        return Hash.sha3(output.toByteArray());
+        return Hash.sha3(output);
     }
 
 }
@@ -0,0 +1,194 @@
+package io.zksync.crypto.eip712;
+
+import org.bouncycastle.crypto.digests.KeccakDigest;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Writer of the EIP-712 {@code hashStruct} input: 32-byte words are written straight into a reusable per-thread buffer
+ * and Keccak-hashed, without wrapping members into {@link org.web3j.abi.datatypes.Type} objects.
+ *
+ * <p>Obtained by {@link #start(Structurable)}, not reentrant: finish the hash of one structure with {@link #hash()}
+ * before starting another one on the same thread.
+ */
+public final class StructHasher {
+
+    private static final int WORD = 32;
+    private static final ThreadLocal<StructHasher> INSTANCE = ThreadLocal.withInitial(StructHasher::new);
+
+    private final KeccakDigest digest = new KeccakDigest(256);
+    private byte[] buffer = new byte[16 * WORD];
+    private byte[] scratch = new byte[256];
+    private int position;
+
+    private StructHasher() {
+    }
+
+    /**
+     * Start the hash of the structure, the first word is its type hash.
+     *
+     * @param structure Structure to hash
+     * @return Hasher of the current thread
+     */
+    public static StructHasher start(Structurable structure) {
+        StructHasher hasher = INSTANCE.get();
+        hasher.position = 0;
+        hasher.putWord(Eip712Encoder.cachedTypeHash(structure.intoEip712Struct()));
+        return hasher;
+    }
+
+    public StructHasher putWord(byte[] word) {
+        ensureWord();
+        System.arraycopy(word, 0, buffer, position, WORD);
+        position += WORD;
+        return this;
+    }
+
+    public StructHasher putUint(long value) {
+        ensureWord();
+        Arrays.fill(buffer, position, position + WORD - Long.BYTES, (byte) 0);
+        for (int i = 0; i < Long.BYTES; i++) {
+            buffer[position + WORD - 1 - i] = (byte) (value >>> (8 * i));
+        }
+        position += WORD;
+        return this;
+    }
+
+    /**
+     * @param value Unsigned integer up to 256 bits, null is written as zero
+     */
+    public StructHasher putUint(@Nullable BigInteger value) {
+        if (value == null) {
+            return putUint(0L);
+        }
+        if (value.signum() < 0 || value.bitLength() > 256) {
+            throw new IllegalArgumentException("Value doesn't fit uint256: " + value);
+        }
+        if (value.bitLength() < Long.SIZE) {
+            return putUint(value.longValue());
+        }
+
+        ensureWord();
+        byte[] bytes = value.toByteArray();
+        int skip = bytes[0] == 0 ? 1 : 0;
+        int length = bytes.length - skip;
+        Arrays.fill(buffer, position, position + WORD - length, (byte) 0);
+        System.arraycopy(bytes, skip, buffer, position + WORD - length, length);
+        position += WORD;
+        return this;
+    }
+
+    /**
+     * Write the hex number (e.g. address) right-aligned into the word.
+     *
+     * @param hex Hex string with or without prefix, null is written as zero
+     */
+    public StructHasher putHexUint(@Nullable String hex) {
+        ensureWord();
+        Arrays.fill(buffer, position, position + WORD, (byte) 0);
+        if (hex != null) {
+            int start = hexStart(hex);
+            int digits = hex.length() - start;
+            if (digits > 2 * WORD) {
+                throw new IllegalArgumentException("Value doesn't fit uint256: " + hex);
+            }
+            for (int i = 0; i < digits; i++) {
+                int nibble = digit(hex.charAt(hex.length() - 1 - i));
+                int index = position + WORD - 1 - i / 2;
+                buffer[index] |= (byte) ((i & 1) == 0 ? nibble : nibble << 4);
+            }
+        }
+        position += WORD;
+        return this;
+    }
+
+    /**
+     * Write the Keccak hash of the bytes, null is hashed as empty bytes.
+     */
+    public StructHasher putBytesHash(@Nullable byte[] value) {
+        ensureWord();
+        if (value != null) {
+            digest.update(value, 0, value.length);
+        }
+        digest.doFinal(buffer, position);
+        position += WORD;
+        return this;
+    }
+
+    /**
+     * Write the Keccak hash of the bytes encoded as hex string, null is hashed as empty bytes.
+     */
+    public StructHasher putHexBytesHash(@Nullable String hex) {
+        if (hex == null) {
+            return putBytesHash(null);
+        }
+        int start = hexStart(hex);
+        int digits = hex.length() - start;
+        int length = (digits + 1) / 2;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        // Odd length strings have implicit leading zero, same as Numeric.hexStringToByteArray
+        int index = 0;
+        int pos = start;
+        if ((digits & 1) == 1) {
+            scratch[index++] = (byte) digit(hex.charAt(pos++));
+        }
+        while (pos < hex.length()) {
+            scratch[index++] = (byte) ((digit(hex.charAt(pos)) << 4) | digit(hex.charAt(pos + 1)));
+            pos += 2;
+        }
+
+        ensureWord();
+        digest.update(scratch, 0, length);
+        digest.doFinal(buffer, position);
+        position += WORD;
+        return this;
+    }
+
+    /**
+     * Write the Keccak hash of the concatenated words, encoding of {@code bytes32[]}.
+     */
+    public StructHasher putWordsHash(@Nullable byte[][] words) {
+        ensureWord();
+        if (words != null) {
+            for (byte[] word : words) {
+                digest.update(word, 0, WORD);
+            }
+        }
+        digest.doFinal(buffer, position);
+        position += WORD;
+        return this;
+    }
+
+    /**
+     * @return Keccak hash of the written words
+     */
+    public byte[] hash() {
+        byte[] result = new byte[WORD];
+        digest.update(buffer, 0, position);
+        digest.doFinal(result, 0);
+        position = 0;
+        return result;
+    }
+
+    private void ensureWord() {
+        if (position + WORD > buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+    }
+
+    private static int hexStart(String hex) {
+        return hex.length() >= 2 && hex.charAt(0) == '0' && (hex.charAt(1) == 'x' || hex.charAt(1) == 'X') ? 2 : 0;
+    }
+
+    private static int digit(char c) {
+        int digit = Character.digit(c, 16);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid hex character: " + c);
+        }
+        return digit;
+    }
+}
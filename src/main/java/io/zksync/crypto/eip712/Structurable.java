@@ -11,6 +11,26 @@ public interface Structurable {
 
     List<Pair<String, Type<?>>> eip712types();
 
+    /**
+     * Whether the encoded type of the structure depends only on its class (member names and types never change),
+     * allows {@link Eip712Encoder} to compute its type hash once per class.
+     *
+     * @return true if the type is the same for all instances
+     */
+    default boolean hasStaticType() {
+        return false;
+    }
+
+    /**
+     * EIP-712 {@code hashStruct} of this structure. Structures with fixed layout can override it
+     * with a direct encoding, the result must be equal to {@link Eip712Encoder#hashStruct(Structurable)}.
+     *
+     * @return Hash of the structure
+     */
+    default byte[] hashStruct() {
+        return Eip712Encoder.hashStruct(this);
+    }
+
     default Eip712Struct intoEip712Struct() {
         return new Eip712Struct(this);
     }
@@ -0,0 +1,45 @@
+package io.zksync.crypto.signer;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Result of the bulk signing.
+ */
+@Getter
+public class BulkSignResult {
+
+    /**
+     * Signatures in the order of the signed structures
+     */
+    private final List<String> signatures;
+
+    /**
+     * Wall time of the whole bulk
+     */
+    private final Duration elapsed;
+
+    public BulkSignResult(List<String> signatures, Duration elapsed) {
+        this.signatures = signatures;
+        this.elapsed = elapsed;
+    }
+
+    public int getCount() {
+        return signatures.size();
+    }
+
+    /**
+     * @return Signatures per second
+     */
+    public double getThroughput() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : signatures.size() * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BulkSignResult{count=%d, elapsed=%s, throughput=%.1f/s}", getCount(), elapsed, getThroughput());
+    }
+}
@@ -1,5 +1,9 @@
 package io.zksync.crypto.signer;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.web3j.crypto.Hash;
@@ -38,6 +42,32 @@ public interface EthSigner {
      */
     <S extends Structurable> CompletableFuture<String> signTypedData(Eip712Domain domain, S typedData);
 
+    /**
+     * Signs many typed structs by EIP-712 signature standard. Default implementation calls
+     * {@link #signTypedData(Eip712Domain, Structurable)} for every struct, implementations can override it with own batching.
+     *
+     * @param <S> - EIP712 structure
+     * @param domain - EIP712 domain
+     * @param typedData - Objects implementing EIP712 structure standard
+     * @return Signatures in the order of the given structs and throughput of the signing
+     */
+    default <S extends Structurable> CompletableFuture<BulkSignResult> signTypedDataBulk(Eip712Domain domain, Collection<S> typedData) {
+        long start = System.nanoTime();
+        List<CompletableFuture<String>> signatures = new ArrayList<>(typedData.size());
+        for (S data : typedData) {
+            signatures.add(signTypedData(domain, data));
+        }
+
+        return CompletableFuture.allOf(signatures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    List<String> result = new ArrayList<>(signatures.size());
+                    for (CompletableFuture<String> signature : signatures) {
+                        result.add(signature.join());
+                    }
+                    return new BulkSignResult(result, Duration.ofNanos(System.nanoTime() - start));
+                });
+    }
+
     /**
      * Verify typed EIP-712 struct standard.
      * 
@@ -1,15 +1,16 @@
 package io.zksync.crypto.signer;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.web3j.crypto.Bip32ECKeyPair;
 import org.web3j.crypto.Credentials;
-import org.web3j.crypto.ECDSASignature;
-import org.web3j.crypto.Keys;
 import org.web3j.crypto.MnemonicUtils;
 import org.web3j.crypto.Sign;
 import org.web3j.utils.Numeric;
@@ -18,17 +19,49 @@ import io.zksync.crypto.eip712.Eip712Domain;
 import io.zksync.crypto.eip712.Eip712Encoder;
 import io.zksync.crypto.eip712.Structurable;
 
-import lombok.AllArgsConstructor;
-
-@AllArgsConstructor
 public class PrivateKeyEthSigner implements EthSigner {
 
+    /**
+     * Amount of structures signed by one task of the bulk signing
+     */
+    static final int BULK_CHUNK_SIZE = 64;
+
+    private static final SignatureVerifier VERIFIER = new SignatureVerifier(1024, ForkJoinPool.commonPool());
+
     private Credentials credentials;
     private Eip712Domain domain;
+    private ForkJoinPool signingPool;
+    private FastEcdsaSigner fastSigner;
 
-    public PrivateKeyEthSigner(Credentials credentials, long chainId) {
+    public PrivateKeyEthSigner(Credentials credentials, Eip712Domain domain) {
+        this(credentials, domain, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param credentials Credentials of the signer
+     * @param domain Default EIP712 domain
+     * @param signingPool Pool used by {@link #signTypedDataBulk(Eip712Domain, Collection)}
+     */
+    public PrivateKeyEthSigner(Credentials credentials, Eip712Domain domain, ForkJoinPool signingPool) {
+        this(credentials, domain, signingPool, false);
+    }
+
+    /**
+     * @param credentials Credentials of the signer
+     * @param domain Default EIP712 domain
+     * @param signingPool Pool used by {@link #signTypedDataBulk(Eip712Domain, Collection)}
+     * @param fastSigning If true then sign with precomputed generator tables and direct recovery id computation,
+     *                    signatures are the same as in the default mode
+     */
+    public PrivateKeyEthSigner(Credentials credentials, Eip712Domain domain, ForkJoinPool signingPool, boolean fastSigning) {
         this.credentials = credentials;
-        this.domain = Eip712Domain.defaultDomain(chainId);
+        this.domain = domain;
+        this.signingPool = signingPool;
+        this.fastSigner = fastSigning ? new FastEcdsaSigner(credentials.getEcKeyPair()) : null;
+    }
+
+    public PrivateKeyEthSigner(Credentials credentials, long chainId) {
+        this(credentials, Eip712Domain.defaultDomain(chainId));
     }
 
     public static PrivateKeyEthSigner fromMnemonic(String mnemonic, long chainId) {
@@ -56,6 +89,21 @@ public class PrivateKeyEthSigner implements EthSigner {
         return this.signMessage(Eip712Encoder.typedDataToSignedBytes(domain, typedData), false);
     }
 
+    /**
+     * Signs typed structs in parallel on the signing pool, every task signs up to {@value #BULK_CHUNK_SIZE} structures.
+     */
+    @Override
+    public <S extends Structurable> CompletableFuture<BulkSignResult> signTypedDataBulk(Eip712Domain domain, Collection<S> typedData) {
+        List<S> items = new ArrayList<>(typedData);
+        String[] signatures = new String[items.size()];
+
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            new BulkSignTask<>(domain, items, signatures, 0, items.size()).invoke();
+            return new BulkSignResult(Arrays.asList(signatures), Duration.ofNanos(System.nanoTime() - start));
+        }, signingPool);
+    }
+
     @Override
     public <S extends Structurable> CompletableFuture<Boolean> verifyTypedData(Eip712Domain domain, S typedData,
             String signature) {
@@ -69,22 +117,7 @@ public class PrivateKeyEthSigner implements EthSigner {
 
     @Override
     public CompletableFuture<String> signMessage(byte[] message, boolean addPrefix) {
-        Sign.SignatureData sig = addPrefix ? Sign.signPrefixedMessage(message, credentials.getEcKeyPair())
-                : Sign.signMessage(message, credentials.getEcKeyPair(), false);
-
-        final ByteArrayOutputStream output = new ByteArrayOutputStream();
-
-        try {
-            output.write(sig.getR());
-            output.write(sig.getS());
-            output.write(sig.getV());
-        } catch (IOException e) {
-            throw new IllegalStateException("Error when creating ETH signature", e);
-        }
-
-        final String signature = Numeric.toHexString(output.toByteArray());
-
-        return CompletableFuture.completedFuture(signature);
+        return CompletableFuture.completedFuture(sign(message, addPrefix));
     }
 
     @Override
@@ -96,27 +129,55 @@ public class PrivateKeyEthSigner implements EthSigner {
     public CompletableFuture<Boolean> verifySignature(String signature, byte[] message, boolean prefixed) {
         byte[] messageHash = prefixed ? EthSigner.getEthereumMessageHash(message) : message;
 
-        String address = ecrecover(Numeric.hexStringToByteArray(signature), messageHash);
+        return CompletableFuture.completedFuture(VERIFIER.verify(messageHash, signature, this.getAddress()));
+    }
 
-        return CompletableFuture.completedFuture(address.equalsIgnoreCase(this.getAddress()));
+    private String sign(byte[] message, boolean addPrefix) {
+        if (fastSigner != null) {
+            return Numeric.toHexString(fastSigner.sign(addPrefix ? EthSigner.getEthereumMessageHash(message) : message));
+        }
+
+        Sign.SignatureData sig = addPrefix ? Sign.signPrefixedMessage(message, credentials.getEcKeyPair())
+                : Sign.signMessage(message, credentials.getEcKeyPair(), false);
+
+        byte[] output = new byte[sig.getR().length + sig.getS().length + sig.getV().length];
+        System.arraycopy(sig.getR(), 0, output, 0, sig.getR().length);
+        System.arraycopy(sig.getS(), 0, output, sig.getR().length, sig.getS().length);
+        System.arraycopy(sig.getV(), 0, output, sig.getR().length + sig.getS().length, sig.getV().length);
+
+        return Numeric.toHexString(output);
     }
 
-    private static String ecrecover(byte[] signature, byte[] hash) {
-        ECDSASignature sig = new ECDSASignature(
-                Numeric.toBigInt(Arrays.copyOfRange(signature, 0, 32)),
-                Numeric.toBigInt(Arrays.copyOfRange(signature, 32, 64)));
+    private class BulkSignTask<S extends Structurable> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
 
-        byte v = signature[64];
+        private final Eip712Domain domain;
+        private final List<S> items;
+        private final String[] signatures;
+        private final int from;
+        private final int to;
 
-        int recId;
-        if (v >= 3) {
-            recId = v - 27;
-        } else {
-            recId = v;
+        BulkSignTask(Eip712Domain domain, List<S> items, String[] signatures, int from, int to) {
+            this.domain = domain;
+            this.items = items;
+            this.signatures = signatures;
+            this.from = from;
+            this.to = to;
         }
 
-        BigInteger recovered = Sign.recoverFromSignature(recId, sig, hash);
-        return "0x" + Keys.getAddress(recovered);
+        @Override
+        protected void compute() {
+            if (to - from <= BULK_CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    signatures[i] = sign(Eip712Encoder.typedDataToSignedBytes(domain, items.get(i)), false);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BulkSignTask<>(domain, items, signatures, from, middle),
+                    new BulkSignTask<>(domain, items, signatures, middle, to));
+        }
     }
 
     private static Credentials generateCredentialsFromMnemonic(String mnemonic, int accountIndex) {
@@ -0,0 +1,238 @@
+package io.zksync.crypto.signer;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.jetbrains.annotations.Nullable;
+import org.web3j.crypto.ECDSASignature;
+import org.web3j.crypto.Keys;
+import org.web3j.crypto.Sign;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Recovers signer addresses of {@code r || s || v} signatures. Recovered addresses are cached per (hash, signature)
+ * in a bounded LRU map, so replayed messages don't run the public key recovery again.
+ * Batches are verified in parallel on the given {@link ForkJoinPool}.
+ */
+public class SignatureVerifier {
+
+    public static final int DEFAULT_CACHE_CAPACITY = 10_000;
+
+    /**
+     * Amount of signatures recovered by one task of the batch
+     */
+    static final int BATCH_CHUNK_SIZE = 64;
+
+    private final ForkJoinPool pool;
+    private final Map<Key, String> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public SignatureVerifier() {
+        this(DEFAULT_CACHE_CAPACITY, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param cacheCapacity Maximum amount of cached results, zero disables the cache
+     * @param pool Pool of the batch verification
+     */
+    public SignatureVerifier(int cacheCapacity, ForkJoinPool pool) {
+        if (cacheCapacity < 0) {
+            throw new IllegalArgumentException("Cache capacity must not be negative");
+        }
+        this.pool = pool;
+        this.cache = new LinkedHashMap<Key, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+    }
+
+    /**
+     * Recover address of the signer.
+     *
+     * @param hash Signed 32-byte hash
+     * @param signature Signature in {@code r || s || v} form
+     * @return Lowercase address with prefix, null if the public key can't be recovered
+     * @throws IllegalArgumentException if the signature isn't 65 bytes long
+     */
+    @Nullable
+    public String recover(byte[] hash, String signature) {
+        byte[] signatureBytes = Numeric.hexStringToByteArray(signature);
+        if (signatureBytes.length != 65) {
+            throw new IllegalArgumentException("Signature must be 65 bytes long");
+        }
+        Key key = new Key(hash, signatureBytes);
+        String cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        String address = ecrecover(signatureBytes, hash);
+        if (address != null) {
+            synchronized (cache) {
+                cache.put(key, address);
+            }
+        }
+        return address;
+    }
+
+    /**
+     * @param hash Signed 32-byte hash
+     * @param signature Signature in {@code r || s || v} form
+     * @param address Expected signer address
+     * @return true if the signature was made by the address
+     */
+    public boolean verify(byte[] hash, String signature, String address) {
+        String recovered = recover(hash, signature);
+        return recovered != null && recovered.equalsIgnoreCase(address);
+    }
+
+    /**
+     * Recover signer addresses in parallel.
+     *
+     * @param items Pairs of signed hash and signature
+     * @return Recovered addresses in the order of items, null for signatures that can't be recovered or are malformed
+     */
+    public CompletableFuture<List<String>> recoverBatch(List<Pair<byte[], String>> items) {
+        List<Pair<byte[], String>> copy = new ArrayList<>(items);
+        String[] addresses = new String[copy.size()];
+
+        return CompletableFuture.supplyAsync(() -> {
+            new RecoverTask(copy, addresses, 0, copy.size()).invoke();
+            return Arrays.asList(addresses);
+        }, pool);
+    }
+
+    /**
+     * Verify signatures of one signer in parallel.
+     *
+     * @param items Pairs of signed hash and signature
+     * @param address Expected signer address
+     * @return Verification results in the order of items
+     */
+    public CompletableFuture<List<Boolean>> verifyBatch(List<Pair<byte[], String>> items, String address) {
+        return recoverBatch(items).thenApply(addresses -> {
+            List<Boolean> result = new ArrayList<>(addresses.size());
+            for (String recovered : addresses) {
+                result.add(recovered != null && recovered.equalsIgnoreCase(address));
+            }
+            return result;
+        });
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Nullable
+    static String ecrecover(byte[] signature, byte[] hash) {
+        BigInteger r = new BigInteger(1, Arrays.copyOfRange(signature, 0, 32));
+        BigInteger s = new BigInteger(1, Arrays.copyOfRange(signature, 32, 64));
+        if (!inCurveOrder(r) || !inCurveOrder(s)) {
+            return null;
+        }
+        ECDSASignature sig = new ECDSASignature(r, s);
+
+        int v = signature[64] & 0xff;
+
+        int recId;
+        if (v == 27 || v == 28) {
+            recId = v - 27;
+        } else if (v == 0 || v == 1) {
+            recId = v;
+        } else {
+            return null;
+        }
+
+        BigInteger recovered = Sign.recoverFromSignature(recId, sig, hash);
+        return recovered == null ? null : "0x" + Keys.getAddress(recovered);
+    }
+
+    private static boolean inCurveOrder(BigInteger value) {
+        return value.signum() > 0 && value.compareTo(Sign.CURVE_PARAMS.getN()) < 0;
+    }
+
+    private class RecoverTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<Pair<byte[], String>> items;
+        private final String[] addresses;
+        private final int from;
+        private final int to;
+
+        RecoverTask(List<Pair<byte[], String>> items, String[] addresses, int from, int to) {
+            this.items = items;
+            this.addresses = addresses;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        addresses[i] = recover(items.get(i).getLeft(), items.get(i).getRight());
+                    } catch (IllegalArgumentException e) {
+                        // Malformed signature of one item doesn't fail the whole batch
+                        addresses[i] = null;
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RecoverTask(items, addresses, from, middle), new RecoverTask(items, addresses, middle, to));
+        }
+    }
+
+    private static final class Key {
+        private final byte[] hash;
+        private final byte[] signature;
+        private final int hashCode;
+
+        Key(byte[] hash, byte[] signature) {
+            this.hash = hash.clone();
+            this.signature = signature;
+            this.hashCode = 31 * Arrays.hashCode(hash) + Arrays.hashCode(signature);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Arrays.equals(hash, key.hash) && Arrays.equals(signature, key.signature);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
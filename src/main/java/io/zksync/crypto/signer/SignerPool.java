@@ -0,0 +1,196 @@
+package io.zksync.crypto.signer;
+
+import io.zksync.crypto.eip712.Eip712Domain;
+import org.web3j.crypto.Bip32ECKeyPair;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.MnemonicUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Pool of signers of the accounts {@code m/44'/60'/0'/0/i} derived from one mnemonic. The seed and the parent key
+ * are derived once, account keys are derived lazily and cached.
+ *
+ * <p>Signers are handed out round-robin or to the least loaded account:
+ * <pre>{@code
+ * try (SignerPool.Lease lease = pool.acquire()) {
+ *     wallet(lease.getSigner()).transfer(to, amount).send();
+ * }
+ * }</pre>
+ */
+public class SignerPool {
+
+    public enum Strategy {
+        ROUND_ROBIN,
+        LEAST_LOADED
+    }
+
+    private final Bip32ECKeyPair parent;
+    private final Eip712Domain domain;
+    private final int size;
+    private final Strategy strategy;
+    private final ForkJoinPool signingPool;
+    private final boolean fastSigning;
+
+    private final AtomicReferenceArray<PrivateKeyEthSigner> signers;
+    private final AtomicIntegerArray load;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public SignerPool(String mnemonic, long chainId, int size) {
+        this(mnemonic, Eip712Domain.defaultDomain(chainId), size, Strategy.ROUND_ROBIN, ForkJoinPool.commonPool(), false);
+    }
+
+    /**
+     * @param mnemonic BIP-39 mnemonic of the accounts
+     * @param domain Default EIP712 domain of the signers
+     * @param size Amount of accounts in the pool, account indexes are {@code [0, size)}
+     * @param strategy Selection of the signer in {@link #next()} and {@link #acquire()}
+     * @param signingPool Pool used for key derivation and bulk signing
+     * @param fastSigning Whether signers use the fast signing mode
+     */
+    public SignerPool(String mnemonic, Eip712Domain domain, int size, Strategy strategy, ForkJoinPool signingPool, boolean fastSigning) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive");
+        }
+        // m/44'/60'/0'/0 derivation path
+        int[] parentPath = {44 | Bip32ECKeyPair.HARDENED_BIT, 60 | Bip32ECKeyPair.HARDENED_BIT,
+                0 | Bip32ECKeyPair.HARDENED_BIT, 0};
+        Bip32ECKeyPair master = Bip32ECKeyPair.generateKeyPair(MnemonicUtils.generateSeed(mnemonic, ""));
+
+        this.parent = Bip32ECKeyPair.deriveKeyPair(master, parentPath);
+        this.domain = domain;
+        this.size = size;
+        this.strategy = strategy;
+        this.signingPool = signingPool;
+        this.fastSigning = fastSigning;
+        this.signers = new AtomicReferenceArray<>(size);
+        this.load = new AtomicIntegerArray(size);
+    }
+
+    /**
+     * Get signer of the account, the key is derived on the first call.
+     *
+     * @param accountIndex Index of the account in {@code [0, size)}
+     * @return Signer of the account
+     */
+    public PrivateKeyEthSigner getSigner(int accountIndex) {
+        if (accountIndex < 0 || accountIndex >= size) {
+            throw new IndexOutOfBoundsException("Account index " + accountIndex + " is out of pool size " + size);
+        }
+        PrivateKeyEthSigner signer = signers.get(accountIndex);
+        if (signer == null) {
+            Credentials credentials = Credentials.create(Bip32ECKeyPair.deriveKeyPair(parent, new int[] {accountIndex}));
+            signers.compareAndSet(accountIndex, null,
+                    new PrivateKeyEthSigner(credentials, domain, signingPool, fastSigning));
+            signer = signers.get(accountIndex);
+        }
+        return signer;
+    }
+
+    /**
+     * Derive keys of all accounts in parallel, so the first sends don't pay for derivation.
+     *
+     * @return Future of all signers in the account index order
+     */
+    public CompletableFuture<List<PrivateKeyEthSigner>> preload() {
+        List<CompletableFuture<PrivateKeyEthSigner>> futures = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int index = i;
+            futures.add(CompletableFuture.supplyAsync(() -> getSigner(index), signingPool));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    List<PrivateKeyEthSigner> result = new ArrayList<>(size);
+                    for (CompletableFuture<PrivateKeyEthSigner> future : futures) {
+                        result.add(future.join());
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * Get the next signer by the pool strategy without tracking its load.
+     *
+     * @return Signer
+     */
+    public PrivateKeyEthSigner next() {
+        return getSigner(select());
+    }
+
+    /**
+     * Take the next signer by the pool strategy, the load of the account is counted until the lease is closed.
+     *
+     * @return Lease of the signer
+     */
+    public Lease acquire() {
+        int index = select();
+        load.incrementAndGet(index);
+        return new Lease(index, getSigner(index));
+    }
+
+    /**
+     * @param accountIndex Index of the account
+     * @return Amount of not closed leases of the account
+     */
+    public int getLoad(int accountIndex) {
+        return load.get(accountIndex);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int select() {
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        if (strategy == Strategy.ROUND_ROBIN) {
+            return start;
+        }
+
+        // Scan from the rotating start, so equally loaded accounts are used in turn
+        int best = start;
+        int bestLoad = load.get(start);
+        for (int i = 1; i < size && bestLoad > 0; i++) {
+            int index = (start + i) % size;
+            int current = load.get(index);
+            if (current < bestLoad) {
+                best = index;
+                bestLoad = current;
+            }
+        }
+        return best;
+    }
+
+    public class Lease implements AutoCloseable {
+
+        private final int accountIndex;
+        private final PrivateKeyEthSigner signer;
+        private final AtomicInteger closed = new AtomicInteger();
+
+        private Lease(int accountIndex, PrivateKeyEthSigner signer) {
+            this.accountIndex = accountIndex;
+            this.signer = signer;
+        }
+
+        public int getAccountIndex() {
+            return accountIndex;
+        }
+
+        public PrivateKeyEthSigner getSigner() {
+            return signer;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(0, 1)) {
+                load.decrementAndGet(accountIndex);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.zksync.protocol;
+
+import io.zksync.protocol.core.Token;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Balances of the addresses in the tokens, stored row by row in one array. Balances which couldn't be read are null.
+ */
+public class BalanceMatrix {
+
+    private final List<String> addresses;
+    private final List<Token> tokens;
+    private final BigInteger[] balances;
+    private final Map<String, Integer> addressIndex;
+    private final Map<String, Integer> tokenIndex;
+
+    BalanceMatrix(List<String> addresses, List<Token> tokens, BigInteger[] balances) {
+        this.addresses = Collections.unmodifiableList(addresses);
+        this.tokens = Collections.unmodifiableList(tokens);
+        this.balances = balances;
+        this.addressIndex = new HashMap<>(addresses.size() * 2);
+        for (int i = 0; i < addresses.size(); i++) {
+            addressIndex.putIfAbsent(addresses.get(i).toLowerCase(), i);
+        }
+        this.tokenIndex = new HashMap<>(tokens.size() * 2);
+        for (int i = 0; i < tokens.size(); i++) {
+            tokenIndex.putIfAbsent(tokens.get(i).getL2Address().toLowerCase(), i);
+        }
+    }
+
+    public List<String> getAddresses() {
+        return addresses;
+    }
+
+    public List<Token> getTokens() {
+        return tokens;
+    }
+
+    /**
+     * @param addressIndex Index of the address in {@link #getAddresses()}
+     * @param tokenIndex Index of the token in {@link #getTokens()}
+     * @return Balance in minimal denomination, null if it couldn't be read
+     */
+    @Nullable
+    public BigInteger get(int addressIndex, int tokenIndex) {
+        return balances[addressIndex * tokens.size() + tokenIndex];
+    }
+
+    /**
+     * @param address Address of the wallet
+     * @param token Token of the balance
+     * @return Balance in minimal denomination, null if it couldn't be read or wasn't requested
+     */
+    @Nullable
+    public BigInteger get(String address, Token token) {
+        Integer row = addressIndex.get(address.toLowerCase());
+        Integer column = tokenIndex.get(token.getL2Address().toLowerCase());
+        return row == null || column == null ? null : get(row, column);
+    }
+
+    /**
+     * @return Amount of balances which couldn't be read
+     */
+    public int getFailedCount() {
+        int failed = 0;
+        for (BigInteger balance : balances) {
+            if (balance == null) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+}
@@ -0,0 +1,247 @@
+package io.zksync.protocol;
+
+import io.zksync.abi.CallTemplate;
+import io.zksync.protocol.batch.BatchEntry;
+import io.zksync.protocol.batch.ZkSyncBatchRequest;
+import io.zksync.protocol.core.Token;
+import io.zksync.wrappers.Erc20Calls;
+import org.jetbrains.annotations.Nullable;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.protocol.core.methods.response.EthGetBalance;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reader of the balances of many addresses in many tokens.
+ *
+ * <p>With a <a href="https://github.com/mds1/multicall">Multicall3</a> contract deployed, {@code balanceOf} calls
+ * (and {@code getEthBalance} for ETH) are aggregated into {@code aggregate3} calls, otherwise every balance is
+ * a separate {@code eth_call} or {@code eth_getBalance}. In both cases calls are sent in JSON-RPC batches.
+ * Calldata is built by filling the address into the precomputed templates, without ABI encoding of {@code Function}s.
+ */
+public class BulkBalanceReader {
+
+    public static final int DEFAULT_CALLS_PER_MULTICALL = 500;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private static final byte[] BALANCE_OF = Erc20Calls.BALANCE_OF.getSelectorBytes();
+    private static final byte[] GET_ETH_BALANCE = CallTemplate.selector("getEthBalance(address)");
+    private static final byte[] AGGREGATE3 = CallTemplate.selector("aggregate3((address,bool,bytes)[])");
+
+    /**
+     * Size of the encoded (address target, bool allowFailure, bytes callData) element with 36 bytes of calldata
+     */
+    private static final int CALL_SIZE = 6 * 32;
+
+    private final ZkSync zksync;
+    @Nullable
+    private final String multicall;
+    private final int callsPerMulticall;
+    private final int maxBatchSize;
+    private final AtomicReference<Boolean> multicallDeployed = new AtomicReference<>();
+
+    /**
+     * Reader sending each balance as a separate call of the JSON-RPC batch.
+     *
+     * @param zksync ZkSync client
+     */
+    public BulkBalanceReader(ZkSync zksync) {
+        this(zksync, null, DEFAULT_CALLS_PER_MULTICALL, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * @param zksync ZkSync client
+     * @param multicall Address of the Multicall3 contract, if null or it has no code then balances are read by separate calls
+     * @param callsPerMulticall Maximum amount of balances read by one {@code aggregate3} call
+     * @param maxBatchSize Maximum amount of requests in one JSON-RPC batch
+     */
+    public BulkBalanceReader(ZkSync zksync, @Nullable String multicall, int callsPerMulticall, int maxBatchSize) {
+        if (callsPerMulticall <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Call and batch sizes must be positive");
+        }
+        this.zksync = zksync;
+        this.multicall = multicall;
+        this.callsPerMulticall = callsPerMulticall;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Calldata of {@code balanceOf(owner)}.
+     *
+     * @param owner Address of the balance owner
+     * @return Hex encoded calldata
+     */
+    public static String balanceOfCalldata(String owner) {
+        return Erc20Calls.BALANCE_OF.encodeToHex(owner);
+    }
+
+    /**
+     * Read balances of every address in every token.
+     *
+     * @param addresses Addresses of the wallets
+     * @param tokens Tokens supported by ZkSync
+     * @param at Block variant
+     * @return Future of the balances matrix
+     */
+    public CompletableFuture<BalanceMatrix> getBalances(List<String> addresses, List<Token> tokens, DefaultBlockParameter at) {
+        return isMulticallDeployed().thenCompose(deployed -> deployed
+                ? readAggregated(addresses, tokens, at)
+                : readSeparately(addresses, tokens, at));
+    }
+
+    private CompletableFuture<Boolean> isMulticallDeployed() {
+        if (multicall == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        Boolean known = multicallDeployed.get();
+        if (known != null) {
+            return CompletableFuture.completedFuture(known);
+        }
+
+        return zksync.ethGetCode(multicall, DefaultBlockParameterName.LATEST).sendAsync()
+                .handle((code, error) -> {
+                    if (error != null || code.hasError()) {
+                        // Not cached, next read checks again
+                        return false;
+                    }
+                    boolean deployed = code.getCode() != null && Numeric.cleanHexPrefix(code.getCode()).length() > 0;
+                    multicallDeployed.set(deployed);
+                    return deployed;
+                });
+    }
+
+    private CompletableFuture<BalanceMatrix> readSeparately(List<String> addresses, List<Token> tokens, DefaultBlockParameter at) {
+        ZkSyncBatchRequest batch = zksync.newZkSyncBatch(maxBatchSize);
+        List<BatchEntry<? extends Response<?>>> entries = new ArrayList<>(addresses.size() * tokens.size());
+        for (String address : addresses) {
+            String calldata = balanceOfCalldata(address);
+            for (Token token : tokens) {
+                if (token.isETH()) {
+                    entries.add(batch.add(zksync.ethGetBalance(address, at)));
+                } else {
+                    entries.add(batch.add(zksync.ethCall(
+                            Transaction.createEthCallTransaction(null, token.getL2Address(), calldata), at)));
+                }
+            }
+        }
+
+        return batch.sendAsync().thenApply(response -> {
+            BigInteger[] balances = new BigInteger[entries.size()];
+            for (int i = 0; i < balances.length; i++) {
+                Response<?> result = response.get(entries.get(i));
+                if (result.hasError()) {
+                    continue;
+                }
+                if (result instanceof EthGetBalance) {
+                    balances[i] = ((EthGetBalance) result).getBalance();
+                } else {
+                    EthCall call = (EthCall) result;
+                    if (!call.isReverted() && call.getValue() != null && Numeric.cleanHexPrefix(call.getValue()).length() >= 64) {
+                        balances[i] = Numeric.toBigInt(call.getValue().substring(0, 66));
+                    }
+                }
+            }
+            return new BalanceMatrix(addresses, tokens, balances);
+        });
+    }
+
+    private CompletableFuture<BalanceMatrix> readAggregated(List<String> addresses, List<Token> tokens, DefaultBlockParameter at) {
+        int total = addresses.size() * tokens.size();
+        byte[][] targets = new byte[tokens.size()][];
+        for (int t = 0; t < tokens.size(); t++) {
+            targets[t] = Numeric.hexStringToByteArray(tokens.get(t).isETH() ? multicall : tokens.get(t).getL2Address());
+        }
+        byte[][] owners = new byte[addresses.size()][];
+        for (int a = 0; a < addresses.size(); a++) {
+            owners[a] = Numeric.hexStringToByteArray(addresses.get(a));
+        }
+
+        ZkSyncBatchRequest batch = zksync.newZkSyncBatch(maxBatchSize);
+        List<BatchEntry<EthCall>> entries = new ArrayList<>();
+        for (int from = 0; from < total; from += callsPerMulticall) {
+            int count = Math.min(callsPerMulticall, total - from);
+            byte[] calldata = new byte[4 + 64 + count * 32 + count * CALL_SIZE];
+            System.arraycopy(AGGREGATE3, 0, calldata, 0, 4);
+            putWord(calldata, 4, 32);
+            putWord(calldata, 36, count);
+            int base = 68;
+            for (int i = 0; i < count; i++) {
+                int index = from + i;
+                int token = index % tokens.size();
+                int tuple = base + count * 32 + i * CALL_SIZE;
+                putWord(calldata, base + i * 32, count * 32 + i * CALL_SIZE);
+                putAddress(calldata, tuple, targets[token]);
+                putWord(calldata, tuple + 32, 1);
+                putWord(calldata, tuple + 64, 96);
+                putWord(calldata, tuple + 96, 36);
+                System.arraycopy(tokens.get(token).isETH() ? GET_ETH_BALANCE : BALANCE_OF, 0, calldata, tuple + 128, 4);
+                putAddress(calldata, tuple + 132, owners[index / tokens.size()]);
+            }
+            entries.add(batch.add(zksync.ethCall(
+                    Transaction.createEthCallTransaction(null, multicall, Numeric.toHexString(calldata)), at)));
+        }
+
+        return batch.sendAsync().thenApply(response -> {
+            BigInteger[] balances = new BigInteger[total];
+            for (int chunk = 0; chunk < entries.size(); chunk++) {
+                EthCall call = response.get(entries.get(chunk));
+                if (!call.hasError() && !call.isReverted() && call.getValue() != null) {
+                    try {
+                        decodeAggregated(Numeric.hexStringToByteArray(call.getValue()), balances, chunk * callsPerMulticall);
+                    } catch (IndexOutOfBoundsException ignored) {
+                        // Malformed result, balances of the chunk stay unknown
+                    }
+                }
+            }
+            return new BalanceMatrix(addresses, tokens, balances);
+        });
+    }
+
+    /**
+     * Decode {@code (bool success, bytes returnData)[]} into the balances starting at the offset.
+     */
+    private static void decodeAggregated(byte[] data, BigInteger[] balances, int offset) {
+        if (data.length < 64) {
+            return;
+        }
+        int array = readInt(data, 0);
+        int count = readInt(data, array);
+        int base = array + 32;
+        for (int i = 0; i < count && offset + i < balances.length; i++) {
+            int tuple = base + readInt(data, base + i * 32);
+            boolean success = readInt(data, tuple) != 0;
+            int bytes = tuple + readInt(data, tuple + 32);
+            int length = readInt(data, bytes);
+            if (success && length >= 32) {
+                balances[offset + i] = Numeric.toBigInt(data, bytes + 32, 32);
+            }
+        }
+    }
+
+    private static void putWord(byte[] buffer, int offset, long value) {
+        for (int i = 0; i < 8; i++) {
+            buffer[offset + 31 - i] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    private static void putAddress(byte[] buffer, int offset, byte[] address) {
+        System.arraycopy(address, 0, buffer, offset + 32 - address.length, address.length);
+    }
+
+    private static int readInt(byte[] buffer, int offset) {
+        int value = 0;
+        for (int i = 28; i < 32; i++) {
+            value = (value << 8) | (buffer[offset + i] & 0xff);
+        }
+        return value;
+    }
+}
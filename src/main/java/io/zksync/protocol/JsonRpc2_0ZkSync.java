@@ -2,9 +2,11 @@ package io.zksync.protocol;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.zksync.methods.request.Transaction;
 import io.zksync.methods.response.*;
+import io.zksync.protocol.batch.ZkSyncBatchRequest;
 import org.jetbrains.annotations.Nullable;
 import org.web3j.protocol.Web3jService;
 import org.web3j.protocol.core.JsonRpc2_0Web3j;
@@ -15,6 +17,8 @@ public class JsonRpc2_0ZkSync extends JsonRpc2_0Web3j implements ZkSync {
 
     public static final int DEFAULT_BLOCK_COMMIT_TIME = 800;
 
+    private final AtomicReference<ZkSyncNetworkContext> networkContext = new AtomicReference<>();
+
     public JsonRpc2_0ZkSync(Web3jService web3jService) {
         super(web3jService);
     }
@@ -90,4 +94,23 @@ public class JsonRpc2_0ZkSync extends JsonRpc2_0Web3j implements ZkSync {
         return new Request<>(
                 "eth_getTransactionReceipt", Collections.singletonList(transactionHash), web3jService, ZksGetTransactionReceipt.class);
     }
+
+    @Override
+    public ZkSyncBatchRequest newZkSyncBatch() {
+        return new ZkSyncBatchRequest(web3jService);
+    }
+
+    @Override
+    public ZkSyncBatchRequest newZkSyncBatch(int maxBatchSize) {
+        return new ZkSyncBatchRequest(web3jService, maxBatchSize);
+    }
+
+    ZkSyncNetworkContext getNetworkContext() {
+        ZkSyncNetworkContext current = networkContext.get();
+        if (current == null) {
+            networkContext.compareAndSet(null, new ZkSyncNetworkContext(this));
+            current = networkContext.get();
+        }
+        return current;
+    }
 }
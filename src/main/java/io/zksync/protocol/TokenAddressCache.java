@@ -0,0 +1,240 @@
+package io.zksync.protocol;
+
+import io.zksync.protocol.batch.BatchEntry;
+import io.zksync.protocol.batch.ZkSyncBatchRequest;
+import io.zksync.protocol.exceptions.JsonRpcResponseException;
+import io.zksync.utils.ZkSyncAddresses;
+import io.zksync.wrappers.IL2Bridge;
+import org.jetbrains.annotations.Nullable;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the token addresses mapping between L1 and L2 made by the default ERC20 bridge.
+ *
+ * <p>Mapping of a bridged token never changes, so resolved addresses are kept forever and can be stored in
+ * a snapshot file loaded on the next start. Addresses are resolved by {@code eth_call} to
+ * {@link IL2Bridge#l2TokenAddress(String)} and {@link IL2Bridge#l1TokenAddress(String)}, missing addresses
+ * of a bulk lookup are resolved in one batch request. Tokens which aren't bridged yet resolve to {@code null}
+ * and aren't cached, ETH resolves to {@link ZkSyncAddresses#ETH_ADDRESS} on both layers.
+ */
+public class TokenAddressCache {
+
+    private final ZkSyncNetworkContext context;
+    @Nullable
+    private final Path snapshot;
+
+    private final Map<String, String> l1ToL2 = new ConcurrentHashMap<>();
+    private final Map<String, String> l2ToL1 = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<String>> pending = new ConcurrentHashMap<>();
+
+    public TokenAddressCache(ZkSync zksync) {
+        this(ZkSyncNetworkContext.of(zksync), null);
+    }
+
+    /**
+     * @param context Network context used for the client and the bridge address
+     * @param snapshot File the mapping is loaded from if it exists and stored to by {@link #saveSnapshot()},
+     *                 the file must not be shared between networks
+     */
+    public TokenAddressCache(ZkSyncNetworkContext context, @Nullable Path snapshot) {
+        this.context = context;
+        this.snapshot = snapshot;
+        if (snapshot != null && Files.exists(snapshot)) {
+            loadSnapshot(snapshot);
+        }
+    }
+
+    /**
+     * @param l1Token Address of the token on L1
+     * @return Future of the token address on L2, {@code null} if the token isn't bridged
+     */
+    public CompletableFuture<String> getL2Address(String l1Token) {
+        return resolve(Collections.singletonList(l1Token), true).thenApply(resolved -> resolved.get(l1Token));
+    }
+
+    /**
+     * @param l2Token Address of the token on L2
+     * @return Future of the token address on L1, {@code null} if the token isn't bridged
+     */
+    public CompletableFuture<String> getL1Address(String l2Token) {
+        return resolve(Collections.singletonList(l2Token), false).thenApply(resolved -> resolved.get(l2Token));
+    }
+
+    /**
+     * @param l1Tokens Addresses of the tokens on L1
+     * @return Future of the L2 addresses by the given L1 addresses, {@code null} values for tokens which aren't bridged
+     */
+    public CompletableFuture<Map<String, String>> getL2Addresses(Collection<String> l1Tokens) {
+        return resolve(l1Tokens, true);
+    }
+
+    /**
+     * @param l2Tokens Addresses of the tokens on L2
+     * @return Future of the L1 addresses by the given L2 addresses, {@code null} values for tokens which aren't bridged
+     */
+    public CompletableFuture<Map<String, String>> getL1Addresses(Collection<String> l2Tokens) {
+        return resolve(l2Tokens, false);
+    }
+
+    /**
+     * @return Amount of cached token mappings
+     */
+    public int size() {
+        return l1ToL2.size();
+    }
+
+    /**
+     * Store all cached mappings into the snapshot file, replacing it atomically.
+     *
+     * @throws IOException If the file can't be written
+     */
+    public void saveSnapshot() throws IOException {
+        if (snapshot == null) {
+            throw new IllegalStateException("Snapshot file is not configured");
+        }
+        Path parent = snapshot.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(parent, snapshot.getFileName().toString(), ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, String> entry : l1ToL2.entrySet()) {
+                writer.write(entry.getKey());
+                writer.write(' ');
+                writer.write(entry.getValue());
+                writer.newLine();
+            }
+        }
+        Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void loadSnapshot(Path file) {
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                String[] addresses = line.trim().split(" ");
+                if (addresses.length == 2) {
+                    store(addresses[0], addresses[1]);
+                }
+            }
+        } catch (IOException ignored) {
+            // Broken snapshot is the same as none, mappings are resolved again
+        }
+    }
+
+    private CompletableFuture<Map<String, String>> resolve(Collection<String> tokens, boolean toL2) {
+        Map<String, String> cache = toL2 ? l1ToL2 : l2ToL1;
+        Map<String, CompletableFuture<String>> waiting = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        List<CompletableFuture<String>> created = new ArrayList<>();
+        for (String token : tokens) {
+            String key = token.toLowerCase();
+            if (key.equals(ZkSyncAddresses.ETH_ADDRESS) || cache.containsKey(key) || waiting.containsKey(token)) {
+                continue;
+            }
+            CompletableFuture<String> future = new CompletableFuture<>();
+            CompletableFuture<String> existing = pending.putIfAbsent(pendingKey(key, toL2), future);
+            if (existing != null) {
+                waiting.put(token, existing);
+            } else {
+                waiting.put(token, future);
+                missing.add(key);
+                created.add(future);
+            }
+        }
+        if (!missing.isEmpty()) {
+            fetch(missing, created, toL2);
+        }
+
+        return CompletableFuture.allOf(waiting.values().toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            Map<String, String> result = new LinkedHashMap<>();
+            for (String token : tokens) {
+                String key = token.toLowerCase();
+                if (key.equals(ZkSyncAddresses.ETH_ADDRESS)) {
+                    result.put(token, ZkSyncAddresses.ETH_ADDRESS);
+                } else if (waiting.containsKey(token)) {
+                    result.put(token, waiting.get(token).join());
+                } else {
+                    result.put(token, cache.get(key));
+                }
+            }
+            return result;
+        });
+    }
+
+    private void fetch(List<String> tokens, List<CompletableFuture<String>> futures, boolean toL2) {
+        context.getBridgeAddresses().thenCompose(bridges -> {
+            String bridge = bridges.getL2Erc20DefaultBridge();
+            ZkSync zksync = context.getZkSync();
+            ZkSyncBatchRequest batch = zksync.newZkSyncBatch();
+            List<BatchEntry<EthCall>> calls = new ArrayList<>(tokens.size());
+            List<Function> functions = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Function function = new Function(toL2 ? IL2Bridge.FUNC_L2TOKENADDRESS : IL2Bridge.FUNC_L1TOKENADDRESS,
+                        Collections.singletonList(new Address(token)),
+                        Collections.singletonList(new TypeReference<Address>() {}));
+                functions.add(function);
+                calls.add(batch.add(zksync.ethCall(Transaction.createEthCallTransaction(null, bridge, FunctionEncoder.encode(function)),
+                        DefaultBlockParameterName.LATEST)));
+            }
+            return batch.sendAsync().thenAccept(response -> {
+                for (int i = 0; i < tokens.size(); i++) {
+                    String token = tokens.get(i);
+                    CompletableFuture<String> future = futures.get(i);
+                    pending.remove(pendingKey(token, toL2), future);
+                    EthCall call = response.get(calls.get(i));
+                    if (call.hasError() || call.isReverted()) {
+                        future.completeExceptionally(new JsonRpcResponseException(call));
+                        continue;
+                    }
+                    List<?> decoded = FunctionReturnDecoder.decode(call.getValue(), functions.get(i).getOutputParameters());
+                    String mapped = decoded.isEmpty() ? ZkSyncAddresses.ETH_ADDRESS : ((Address) decoded.get(0)).getValue().toLowerCase();
+                    if (mapped.equals(ZkSyncAddresses.ETH_ADDRESS)) {
+                        future.complete(null);
+                        continue;
+                    }
+                    if (toL2) {
+                        store(token, mapped);
+                    } else {
+                        store(mapped, token);
+                    }
+                    future.complete(mapped);
+                }
+            });
+        }).whenComplete((ignored, error) -> {
+            if (error != null) {
+                for (int i = 0; i < tokens.size(); i++) {
+                    pending.remove(pendingKey(tokens.get(i), toL2), futures.get(i));
+                    futures.get(i).completeExceptionally(error);
+                }
+            }
+        });
+    }
+
+    private void store(String l1Token, String l2Token) {
+        l1ToL2.put(l1Token.toLowerCase(), l2Token.toLowerCase());
+        l2ToL1.put(l2Token.toLowerCase(), l1Token.toLowerCase());
+    }
+
+    private static String pendingKey(String token, boolean toL2) {
+        return (toL2 ? "l2:" : "l1:") + token;
+    }
+}
@@ -0,0 +1,284 @@
+package io.zksync.protocol;
+
+import io.zksync.methods.response.ZksTokens;
+import io.zksync.protocol.batch.BatchEntry;
+import io.zksync.protocol.batch.ZkSyncBatchRequest;
+import io.zksync.protocol.core.Token;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Registry of the tokens confirmed by the node, indexed by L1 address, L2 address and symbol.
+ *
+ * <p>Tokens are fetched by {@code zks_getConfirmedTokens} pages, several pages per batch request, until a page
+ * is not full. Confirmed tokens are only appended, so refresh fetches pages starting from the amount of
+ * known tokens. Lookups read an immutable snapshot without locking.
+ */
+public class TokenRegistry implements Closeable {
+
+    public static final short DEFAULT_PAGE_SIZE = 100;
+    public static final int DEFAULT_PAGES_PER_BATCH = 8;
+    public static final Duration DEFAULT_MISS_REFRESH_INTERVAL = Duration.ofSeconds(10);
+
+    private final ZkSync zksync;
+    private final short pageSize;
+    private final int pagesPerBatch;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownScheduler;
+    private final ScheduledFuture<?> task;
+
+    private final AtomicReference<CompletableFuture<Void>> inFlight = new AtomicReference<>();
+    private volatile Index index = new Index(Collections.emptyList(), false);
+    private volatile long missRefreshIntervalMillis = DEFAULT_MISS_REFRESH_INTERVAL.toMillis();
+    private volatile long lastRefreshAt;
+
+    /**
+     * Registry without background refresh.
+     *
+     * @param zksync ZkSync client
+     */
+    public TokenRegistry(ZkSync zksync) {
+        this(zksync, DEFAULT_PAGE_SIZE, DEFAULT_PAGES_PER_BATCH, Duration.ZERO);
+    }
+
+    /**
+     * @param zksync ZkSync client
+     * @param pageSize Amount of tokens requested per page
+     * @param pagesPerBatch Amount of pages requested in one batch
+     * @param refreshInterval Interval of the background refresh, zero disables it
+     */
+    public TokenRegistry(ZkSync zksync, short pageSize, int pagesPerBatch, Duration refreshInterval) {
+        this(zksync, pageSize, pagesPerBatch, refreshInterval, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "zksync-token-registry-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * @param zksync ZkSync client
+     * @param pageSize Amount of tokens requested per page
+     * @param pagesPerBatch Amount of pages requested in one batch
+     * @param refreshInterval Interval of the background refresh, zero disables it
+     * @param scheduler Scheduler of the background refresh, it is not shut down on {@link #close()}
+     */
+    public TokenRegistry(ZkSync zksync, short pageSize, int pagesPerBatch, Duration refreshInterval, ScheduledExecutorService scheduler) {
+        this(zksync, pageSize, pagesPerBatch, refreshInterval, scheduler, false);
+    }
+
+    private TokenRegistry(ZkSync zksync, short pageSize, int pagesPerBatch, Duration refreshInterval,
+                          ScheduledExecutorService scheduler, boolean ownScheduler) {
+        if (pageSize <= 0 || pagesPerBatch <= 0 || refreshInterval.isNegative()) {
+            throw new IllegalArgumentException("Page size and batch size must be positive");
+        }
+        this.zksync = zksync;
+        this.pageSize = pageSize;
+        this.pagesPerBatch = pagesPerBatch;
+        this.scheduler = scheduler;
+        this.ownScheduler = ownScheduler;
+        if (refreshInterval.isZero()) {
+            this.task = null;
+        } else {
+            long interval = refreshInterval.toMillis();
+            this.task = scheduler.scheduleWithFixedDelay(this::refresh, 0, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Fetch tokens confirmed since the last refresh, concurrent callers share one refresh.
+     *
+     * @return Future completed when all new pages are fetched
+     */
+    public CompletableFuture<Void> refresh() {
+        while (true) {
+            CompletableFuture<Void> current = inFlight.get();
+            if (current != null) {
+                return current;
+            }
+
+            CompletableFuture<Void> created = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, created)) {
+                lastRefreshAt = System.currentTimeMillis();
+                List<Token> known = index.tokens;
+                CompletableFuture<Void> fetched;
+                try {
+                    fetched = fetchFrom(known.size(), new ArrayList<>(known));
+                } catch (RuntimeException e) {
+                    fetched = new CompletableFuture<>();
+                    fetched.completeExceptionally(e);
+                }
+                fetched.whenComplete((ignored, error) -> {
+                    inFlight.set(null);
+                    if (error != null) {
+                        created.completeExceptionally(error);
+                    } else {
+                        created.complete(null);
+                    }
+                });
+                return created;
+            }
+        }
+    }
+
+    /**
+     * Load the registry if it's not loaded yet.
+     *
+     * @return Future completed when the registry is loaded
+     */
+    public CompletableFuture<Void> preload() {
+        return index.loaded ? CompletableFuture.completedFuture(null) : refresh();
+    }
+
+    public boolean isLoaded() {
+        return index.loaded;
+    }
+
+    public Optional<Token> getByL1Address(String address) {
+        return Optional.ofNullable(index.byL1Address.get(address.toLowerCase()));
+    }
+
+    public Optional<Token> getByL2Address(String address) {
+        return Optional.ofNullable(index.byL2Address.get(address.toLowerCase()));
+    }
+
+    public Optional<Token> getBySymbol(String symbol) {
+        return Optional.ofNullable(index.bySymbol.get(symbol));
+    }
+
+    /**
+     * @return All known tokens in the confirmation order
+     */
+    public List<Token> getTokens() {
+        return index.tokens;
+    }
+
+    /**
+     * @param interval Minimum time since the last refresh before {@link #resolve(String)} refreshes the registry
+     *                 on unknown token, so lookups of unknown tokens don't reach the node every time
+     */
+    public void setMissRefreshInterval(Duration interval) {
+        if (interval.isNegative()) {
+            throw new IllegalArgumentException("Interval must not be negative");
+        }
+        this.missRefreshIntervalMillis = interval.toMillis();
+    }
+
+    /**
+     * Find the token by L2 address, L1 address or symbol. Registry is loaded on the first use
+     * and refreshed when the token isn't known yet, at most once per {@link #setMissRefreshInterval(Duration) interval}.
+     *
+     * @param addressOrSymbol L2 address, L1 address or symbol of the token
+     * @return Future of the found token
+     */
+    public CompletableFuture<Optional<Token>> resolve(String addressOrSymbol) {
+        return preload().thenCompose(ignored -> {
+            Optional<Token> token = lookup(addressOrSymbol);
+            if (token.isPresent()) {
+                return CompletableFuture.completedFuture(token);
+            }
+            if (inFlight.get() == null && System.currentTimeMillis() - lastRefreshAt < missRefreshIntervalMillis) {
+                return CompletableFuture.completedFuture(Optional.<Token>empty());
+            }
+            return refresh().thenApply(refreshed -> lookup(addressOrSymbol));
+        });
+    }
+
+    @Override
+    public void close() {
+        if (task != null) {
+            task.cancel(false);
+        }
+        if (ownScheduler) {
+            scheduler.shutdown();
+        }
+    }
+
+    private Optional<Token> lookup(String addressOrSymbol) {
+        Index current = index;
+        String key = addressOrSymbol.toLowerCase();
+        Token token = current.byL2Address.get(key);
+        if (token == null) {
+            token = current.byL1Address.get(key);
+        }
+        if (token == null) {
+            token = current.bySymbol.get(addressOrSymbol);
+        }
+        return Optional.ofNullable(token);
+    }
+
+    /**
+     * @param from Offset of the first requested token
+     * @param tokens Tokens collected so far
+     */
+    private CompletableFuture<Void> fetchFrom(int from, List<Token> tokens) {
+        ZkSyncBatchRequest batch = zksync.newZkSyncBatch();
+        List<BatchEntry<ZksTokens>> pages = new ArrayList<>(pagesPerBatch);
+        for (int i = 0; i < pagesPerBatch; i++) {
+            pages.add(batch.add(zksync.zksGetConfirmedTokens(from + i * pageSize, pageSize)));
+        }
+
+        return batch.sendAsync().thenCompose(response -> {
+            boolean complete = false;
+            for (BatchEntry<ZksTokens> page : pages) {
+                List<Token> result = response.getOrThrow(page).getResult();
+                if (result != null) {
+                    tokens.addAll(result);
+                }
+                if (result == null || result.size() < pageSize) {
+                    complete = true;
+                    break;
+                }
+            }
+
+            if (complete) {
+                index = new Index(tokens, true);
+                return CompletableFuture.completedFuture(null);
+            }
+            return fetchFrom(from + pagesPerBatch * pageSize, tokens);
+        });
+    }
+
+    private static class Index {
+        private final List<Token> tokens;
+        private final Map<String, Token> byL1Address;
+        private final Map<String, Token> byL2Address;
+        private final Map<String, Token> bySymbol;
+        private final boolean loaded;
+
+        Index(List<Token> tokens, boolean loaded) {
+            this.tokens = Collections.unmodifiableList(tokens);
+            this.byL1Address = new HashMap<>(tokens.size() * 2);
+            this.byL2Address = new HashMap<>(tokens.size() * 2);
+            this.bySymbol = new HashMap<>(tokens.size() * 2);
+            this.loaded = loaded;
+            for (Token token : tokens) {
+                if (token.getL1Address() != null) {
+                    byL1Address.putIfAbsent(token.getL1Address().toLowerCase(), token);
+                }
+                if (token.getL2Address() != null) {
+                    byL2Address.putIfAbsent(token.getL2Address().toLowerCase(), token);
+                }
+                if (token.getSymbol() != null) {
+                    bySymbol.putIfAbsent(token.getSymbol(), token);
+                }
+            }
+            // ETH is resolvable even if the node doesn't list it among confirmed tokens
+            byL1Address.putIfAbsent(Token.ETH.getL1Address().toLowerCase(), Token.ETH);
+            byL2Address.putIfAbsent(Token.ETH.getL2Address().toLowerCase(), Token.ETH);
+            bySymbol.putIfAbsent(Token.ETH.getSymbol(), Token.ETH);
+        }
+    }
+}
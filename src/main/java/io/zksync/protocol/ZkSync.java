@@ -2,6 +2,7 @@ package io.zksync.protocol;
 
 import io.zksync.methods.request.Transaction;
 import io.zksync.methods.response.*;
+import io.zksync.protocol.batch.ZkSyncBatchRequest;
 import org.jetbrains.annotations.Nullable;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.Web3jService;
@@ -108,4 +109,22 @@ public interface ZkSync extends Web3j {
      * @return Prepared get transaction receipt request
      */
     Request<?, ZksGetTransactionReceipt> zksGetTransactionReceipt(String transactionHash);
+
+    /**
+     * Create new JSON-RPC batch. Any request of this client can be added into it, and all of them
+     * will be sent in a single round trip with responses matched by request id.
+     *
+     * @return Empty batch request
+     */
+    default ZkSyncBatchRequest newZkSyncBatch() {
+        return newZkSyncBatch(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create new JSON-RPC batch which is split into several round trips when it's larger than the limit.
+     *
+     * @param maxBatchSize Maximum amount of requests sent in one round trip
+     * @return Empty batch request
+     */
+    ZkSyncBatchRequest newZkSyncBatch(int maxBatchSize);
 }
@@ -0,0 +1,256 @@
+package io.zksync.protocol;
+
+import io.zksync.methods.response.ZksBridgeAddresses;
+import io.zksync.methods.response.ZksL1ChainId;
+import io.zksync.methods.response.ZksMainContract;
+import io.zksync.methods.response.ZksTestnetPaymasterAddress;
+import io.zksync.protocol.batch.BatchEntry;
+import io.zksync.protocol.batch.ZkSyncBatchRequest;
+import io.zksync.protocol.batch.ZkSyncBatchResponse;
+import io.zksync.protocol.core.BridgeAddresses;
+import io.zksync.protocol.exceptions.JsonRpcResponseException;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthChainId;
+
+import java.lang.ref.WeakReference;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the values which don't change for a running node: bridge addresses, main contract, L1 and L2 chain ids
+ * and testnet paymaster. Also holds the {@link TokenRegistry} of the client. Every value is fetched once on the first use, or all of them in a single batch by {@link #preload()},
+ * and kept until {@link #refresh()}. Failed fetches aren't cached.
+ *
+ * <p>{@link #of(ZkSync)} shares one context between all users of the client, e.g. {@link io.zksync.ZkSyncWallet}
+ * and {@link io.zksync.protocol.provider.EthereumProvider#load}.
+ */
+public class ZkSyncNetworkContext {
+
+    /**
+     * Contexts of the clients which can't hold their own one. Values are weak, so the context doesn't keep its client
+     * reachable through the map and both are collected when no longer used.
+     */
+    private static final Map<ZkSync, WeakReference<ZkSyncNetworkContext>> SHARED = new WeakHashMap<>();
+
+    private final ZkSync zksync;
+    private final Cached<BridgeAddresses> bridgeAddresses;
+    private final Cached<String> mainContract;
+    private final Cached<BigInteger> l1ChainId;
+    private final Cached<String> testnetPaymaster;
+    private final Cached<BigInteger> chainId;
+    private final AtomicReference<TokenRegistry> tokenRegistry = new AtomicReference<>();
+
+    public ZkSyncNetworkContext(ZkSync zksync) {
+        this.zksync = zksync;
+        this.bridgeAddresses = new Cached<>(() -> zksync.zksGetBridgeContracts().sendAsync().thenApply(ZkSyncNetworkContext::result));
+        this.mainContract = new Cached<>(() -> zksync.zksMainContract().sendAsync().thenApply(ZkSyncNetworkContext::result));
+        this.l1ChainId = new Cached<>(() -> zksync.zksL1ChainId().sendAsync().thenApply(response -> result(response, ZksL1ChainId::getChainId)));
+        this.testnetPaymaster = new Cached<>(() -> zksync.zksGetTestnetPaymaster().sendAsync().thenApply(ZkSyncNetworkContext::result));
+        this.chainId = new Cached<>(() -> zksync.ethChainId().sendAsync().thenApply(response -> result(response, EthChainId::getChainId)));
+    }
+
+    /**
+     * Context held by the {@link JsonRpc2_0ZkSync} client itself. For other implementations the context is shared
+     * while it is used by anyone and created again afterwards.
+     *
+     * @param zksync ZkSync client
+     * @return Context shared by all users of the client
+     */
+    public static ZkSyncNetworkContext of(ZkSync zksync) {
+        if (zksync instanceof JsonRpc2_0ZkSync) {
+            return ((JsonRpc2_0ZkSync) zksync).getNetworkContext();
+        }
+
+        synchronized (SHARED) {
+            WeakReference<ZkSyncNetworkContext> reference = SHARED.get(zksync);
+            ZkSyncNetworkContext context = reference != null ? reference.get() : null;
+            if (context == null) {
+                context = new ZkSyncNetworkContext(zksync);
+                SHARED.put(zksync, new WeakReference<>(context));
+            }
+            return context;
+        }
+    }
+
+    public ZkSync getZkSync() {
+        return zksync;
+    }
+
+    /**
+     * @return Default bridges of L1 and L2
+     */
+    public CompletableFuture<BridgeAddresses> getBridgeAddresses() {
+        return bridgeAddresses.get();
+    }
+
+    /**
+     * @return Address of the main zkSync contract on L1
+     */
+    public CompletableFuture<String> getMainContract() {
+        return mainContract.get();
+    }
+
+    /**
+     * @return Chain id of L1
+     */
+    public CompletableFuture<BigInteger> getL1ChainId() {
+        return l1ChainId.get();
+    }
+
+    /**
+     * @return Address of the testnet paymaster, fails on networks without one
+     */
+    public CompletableFuture<String> getTestnetPaymaster() {
+        return testnetPaymaster.get();
+    }
+
+    /**
+     * @return Chain id of L2
+     */
+    public CompletableFuture<BigInteger> getChainId() {
+        return chainId.get();
+    }
+
+    /**
+     * @return Registry of the confirmed tokens, created without background refresh on the first use unless set before
+     */
+    public TokenRegistry getTokenRegistry() {
+        TokenRegistry current = tokenRegistry.get();
+        if (current == null) {
+            tokenRegistry.compareAndSet(null, new TokenRegistry(zksync));
+            current = tokenRegistry.get();
+        }
+        return current;
+    }
+
+    /**
+     * @param registry Registry used by the users of the context, e.g. one with background refresh
+     */
+    public void setTokenRegistry(TokenRegistry registry) {
+        tokenRegistry.set(registry);
+    }
+
+    /**
+     * Fetch all values which aren't cached yet in a single batch request.
+     * Values failed in the batch, e.g. testnet paymaster on mainnet, are left for fetching on use.
+     *
+     * @return Future completed when the batch is processed
+     */
+    public CompletableFuture<Void> preload() {
+        ZkSyncBatchRequest batch = zksync.newZkSyncBatch();
+        BatchEntry<ZksBridgeAddresses> bridges = bridgeAddresses.isEmpty() ? batch.add(zksync.zksGetBridgeContracts()) : null;
+        BatchEntry<ZksMainContract> main = mainContract.isEmpty() ? batch.add(zksync.zksMainContract()) : null;
+        BatchEntry<ZksL1ChainId> l1 = l1ChainId.isEmpty() ? batch.add(zksync.zksL1ChainId()) : null;
+        BatchEntry<ZksTestnetPaymasterAddress> paymaster = testnetPaymaster.isEmpty() ? batch.add(zksync.zksGetTestnetPaymaster()) : null;
+        BatchEntry<EthChainId> l2 = chainId.isEmpty() ? batch.add(zksync.ethChainId()) : null;
+        if (batch.size() == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return batch.sendAsync().thenAccept(response -> {
+            fill(bridgeAddresses, response, bridges, Response::getResult);
+            fill(mainContract, response, main, Response::getResult);
+            fill(l1ChainId, response, l1, ZksL1ChainId::getChainId);
+            fill(testnetPaymaster, response, paymaster, Response::getResult);
+            fill(chainId, response, l2, EthChainId::getChainId);
+        });
+    }
+
+    /**
+     * Drop all cached values and fetch them again.
+     *
+     * @return Future completed when the values are fetched, see {@link #preload()}
+     */
+    public CompletableFuture<Void> refresh() {
+        invalidate();
+        return preload();
+    }
+
+    /**
+     * Drop all cached values, they are fetched again on the next use.
+     */
+    public void invalidate() {
+        bridgeAddresses.clear();
+        mainContract.clear();
+        l1ChainId.clear();
+        testnetPaymaster.clear();
+        chainId.clear();
+    }
+
+    private static <T, R extends Response<?>> void fill(Cached<T> cached, ZkSyncBatchResponse response, BatchEntry<R> entry,
+                                                        Function<R, T> value) {
+        if (entry != null) {
+            R result = response.get(entry);
+            if (!result.hasError() && result.getResult() != null) {
+                cached.set(value.apply(result));
+            }
+        }
+    }
+
+    private static <T> T result(Response<T> response) {
+        return result(response, Response::getResult);
+    }
+
+    private static <R extends Response<?>, T> T result(R response, Function<R, T> value) {
+        if (response.hasError()) {
+            throw new JsonRpcResponseException(response);
+        }
+        return value.apply(response);
+    }
+
+    private static class Cached<T> {
+        private final Supplier<CompletableFuture<T>> fetch;
+        private final AtomicReference<CompletableFuture<T>> value = new AtomicReference<>();
+
+        Cached(Supplier<CompletableFuture<T>> fetch) {
+            this.fetch = fetch;
+        }
+
+        CompletableFuture<T> get() {
+            while (true) {
+                CompletableFuture<T> current = value.get();
+                if (current != null) {
+                    return current;
+                }
+
+                CompletableFuture<T> created = new CompletableFuture<>();
+                if (value.compareAndSet(null, created)) {
+                    CompletableFuture<T> fetched;
+                    try {
+                        fetched = fetch.get();
+                    } catch (RuntimeException e) {
+                        value.compareAndSet(created, null);
+                        created.completeExceptionally(e);
+                        return created;
+                    }
+                    fetched.whenComplete((result, error) -> {
+                        if (error != null) {
+                            value.compareAndSet(created, null);
+                            created.completeExceptionally(error);
+                        } else {
+                            created.complete(result);
+                        }
+                    });
+                    return created;
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return value.get() == null;
+        }
+
+        void set(T result) {
+            value.set(CompletableFuture.completedFuture(result));
+        }
+
+        void clear() {
+            value.set(null);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.zksync.protocol.batch;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.web3j.protocol.core.Response;
+
+/**
+ * Typed handle of the request added into {@link ZkSyncBatchRequest}.
+ * Used for extracting the matching response from {@link ZkSyncBatchResponse}.
+ *
+ * @param <T> Response type of the request
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class BatchEntry<T extends Response<?>> {
+
+    /**
+     * Position of the request inside the batch
+     */
+    private final int index;
+
+    private final Class<T> responseType;
+
+}
@@ -0,0 +1,67 @@
+package io.zksync.protocol.batch;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the {@link CoalescingWeb3jService}: how many requests were coalesced into how many round trips,
+ * and how long the round trips took.
+ */
+public class CoalescingMetrics {
+
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder flushLatencyNanos = new LongAdder();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+    private final AtomicLong maxFlushLatencyNanos = new AtomicLong();
+
+    void record(int batchSize, long latencyNanos) {
+        flushes.increment();
+        requests.add(batchSize);
+        flushLatencyNanos.add(latencyNanos);
+        maxBatchSize.accumulateAndGet(batchSize, Math::max);
+        maxFlushLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    /**
+     * @return Amount of round trips made to the node
+     */
+    public long getFlushCount() {
+        return flushes.sum();
+    }
+
+    /**
+     * @return Amount of requests sent through the service
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    public double getAverageBatchSize() {
+        long count = getFlushCount();
+        return count == 0 ? 0 : (double) getRequestCount() / count;
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    /**
+     * @return Average time between sending the batch and receiving its response
+     */
+    public Duration getAverageFlushLatency() {
+        long count = getFlushCount();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(flushLatencyNanos.sum() / count);
+    }
+
+    public Duration getMaxFlushLatency() {
+        return Duration.ofNanos(maxFlushLatencyNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CoalescingMetrics{flushes=%d, requests=%d, avgBatchSize=%.2f, maxBatchSize=%d, avgFlushLatency=%s, maxFlushLatency=%s}",
+                getFlushCount(), getRequestCount(), getAverageBatchSize(), getMaxBatchSize(), getAverageFlushLatency(), getMaxFlushLatency());
+    }
+}
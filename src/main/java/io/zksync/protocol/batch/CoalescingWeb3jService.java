@@ -0,0 +1,234 @@
+package io.zksync.protocol.batch;
+
+import io.reactivex.Flowable;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorator of {@link Web3jService} which coalesces single requests sent concurrently from many threads
+ * into JSON-RPC batches. Requests are collected until the window expires or the batch is full,
+ * then sent in one round trip and every caller gets its own response.
+ *
+ * <pre>{@code
+ * ZkSync zksync = ZkSync.build(new CoalescingWeb3jService(new HttpService(url)));
+ * }</pre>
+ */
+public class CoalescingWeb3jService implements Web3jService {
+
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(2);
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private final Web3jService delegate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownScheduler;
+    private final CoalescingMetrics metrics = new CoalescingMetrics();
+
+    private final Object lock = new Object();
+    private List<Pending<?>> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public CoalescingWeb3jService(Web3jService delegate) {
+        this(delegate, DEFAULT_WINDOW, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * @param delegate Service used for sending batches
+     * @param window Maximum time the first request of the batch waits for other ones
+     * @param maxBatchSize Amount of requests which triggers the flush before the window expires
+     */
+    public CoalescingWeb3jService(Web3jService delegate, Duration window, int maxBatchSize) {
+        this(delegate, window, maxBatchSize, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "zksync-coalescing-flush");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * @param delegate Service used for sending batches
+     * @param window Maximum time the first request of the batch waits for other ones
+     * @param maxBatchSize Amount of requests which triggers the flush before the window expires
+     * @param scheduler Scheduler of the window flushes, it is not shut down on {@link #close()}
+     */
+    public CoalescingWeb3jService(Web3jService delegate, Duration window, int maxBatchSize, ScheduledExecutorService scheduler) {
+        this(delegate, window, maxBatchSize, scheduler, false);
+    }
+
+    private CoalescingWeb3jService(Web3jService delegate, Duration window, int maxBatchSize,
+                                   ScheduledExecutorService scheduler, boolean ownScheduler) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.delegate = delegate;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = scheduler;
+        this.ownScheduler = ownScheduler;
+    }
+
+    public CoalescingMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        try {
+            return sendAsync(request, responseType).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        Pending<Response<?>> entry = new Pending<>((Request<?, Response<?>>) request, (Class<Response<?>>) (Class<?>) responseType);
+        List<Pending<?>> batch = null;
+        synchronized (lock) {
+            pending.add(entry);
+            if (pending.size() >= maxBatchSize) {
+                batch = drain();
+            } else if (pending.size() == 1) {
+                scheduledFlush = scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+
+        return (CompletableFuture<T>) (CompletableFuture<?>) entry.future;
+    }
+
+    /**
+     * Send collected requests immediately without waiting for the window.
+     */
+    public void flush() {
+        List<Pending<?>> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        dispatch(batch);
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return delegate.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return delegate.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public <T extends Notification<?>> Flowable<T> subscribe(Request request, String unsubscribeMethod, Class<T> responseType) {
+        return delegate.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        if (ownScheduler) {
+            scheduler.shutdown();
+        }
+        delegate.close();
+    }
+
+    private List<Pending<?>> drain() {
+        List<Pending<?>> batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+
+        return batch;
+    }
+
+    private void dispatch(List<Pending<?>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        if (batch.size() == 1) {
+            sendSingle(batch.get(0), start);
+            return;
+        }
+
+        ZkSyncBatchRequest request = new ZkSyncBatchRequest(delegate);
+        for (Pending<?> entry : batch) {
+            entry.addInto(request);
+        }
+
+        request.sendAsync().whenComplete((response, error) -> {
+            metrics.record(batch.size(), System.nanoTime() - start);
+            for (int i = 0; i < batch.size(); i++) {
+                if (error != null) {
+                    batch.get(i).future.completeExceptionally(error);
+                } else {
+                    batch.get(i).complete(response);
+                }
+            }
+        });
+    }
+
+    private <T extends Response<?>> void sendSingle(Pending<T> entry, long start) {
+        delegate.sendAsync(entry.request, entry.responseType).whenComplete((response, error) -> {
+            metrics.record(1, System.nanoTime() - start);
+            if (error != null) {
+                entry.future.completeExceptionally(error);
+            } else {
+                entry.future.complete(response);
+            }
+        });
+    }
+
+    private static class Pending<T extends Response<?>> {
+        private final Request<?, T> request;
+        private final Class<T> responseType;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private BatchEntry<T> entry;
+
+        Pending(Request<?, T> request, Class<T> responseType) {
+            this.request = request;
+            this.responseType = responseType;
+        }
+
+        void addInto(ZkSyncBatchRequest batch) {
+            entry = batch.add(request);
+        }
+
+        void complete(ZkSyncBatchResponse response) {
+            future.complete(response.get(entry));
+        }
+    }
+}
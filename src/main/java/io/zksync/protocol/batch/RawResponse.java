@@ -0,0 +1,10 @@
+package io.zksync.protocol.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.web3j.protocol.core.Response;
+
+/**
+ * Untyped JSON-RPC response. Batch elements are read into it first and converted into the
+ * requested response type only after matching by request id.
+ */
+class RawResponse extends Response<JsonNode> {}
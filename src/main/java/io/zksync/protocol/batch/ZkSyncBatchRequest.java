@@ -0,0 +1,190 @@
+package io.zksync.protocol.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builder of the JSON-RPC batch request. Accepts any {@code zks_*} or {@code eth_*} request prepared by
+ * {@link io.zksync.protocol.ZkSync} and sends all of them in a single round trip.
+ *
+ * <p>Unlike {@link BatchRequest}, responses are matched to requests by their id, so nodes returning batch
+ * elements out of order are supported. A failure of a single element does not fail the whole batch,
+ * see {@link ZkSyncBatchResponse#hasErrors()}.
+ */
+public class ZkSyncBatchRequest {
+
+    /**
+     * Error code used for the elements which node didn't answer to
+     */
+    public static final int MISSING_RESPONSE_ERROR_CODE = -32603;
+
+    /**
+     * Error code used for the elements which result couldn't be parsed into the requested response type
+     */
+    public static final int INVALID_RESPONSE_ERROR_CODE = -32700;
+
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getObjectMapper();
+
+    private final Web3jService web3jService;
+    private final int maxBatchSize;
+    private final List<Request<?, ? extends Response<?>>> requests = new ArrayList<>();
+
+    public ZkSyncBatchRequest(Web3jService web3jService) {
+        this(web3jService, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param web3jService Service used for sending the batch
+     * @param maxBatchSize Maximum amount of requests sent in one JSON-RPC batch, larger batches are split into chunks
+     */
+    public ZkSyncBatchRequest(Web3jService web3jService, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.web3jService = web3jService;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Add prepared request into the batch.
+     *
+     * @param request Prepared request, e.g. {@code zksync.zksGetAllAccountBalances(address)}
+     * @param <T> Response type
+     * @return Handle for reading the typed response from {@link ZkSyncBatchResponse}
+     */
+    public <T extends Response<?>> BatchEntry<T> add(Request<?, T> request) {
+        requests.add(request);
+        return new BatchEntry<>(requests.size() - 1, request.getResponseType());
+    }
+
+    public List<Request<?, ? extends Response<?>>> getRequests() {
+        return Collections.unmodifiableList(requests);
+    }
+
+    public int size() {
+        return requests.size();
+    }
+
+    /**
+     * Send all the requests, larger batches are sent chunk by chunk.
+     *
+     * @return Responses in the same order as requests were added
+     * @throws IOException On transport failure of the whole batch
+     */
+    public ZkSyncBatchResponse send() throws IOException {
+        List<Request<?, ? extends Response<?>>> sent = new ArrayList<>(requests);
+        List<Response<?>> responses = new ArrayList<>(sent.size());
+        for (List<Request<?, ? extends Response<?>>> chunk : chunks(sent)) {
+            responses.addAll(match(chunk, web3jService.sendBatch(toRawBatch(chunk))));
+        }
+
+        return new ZkSyncBatchResponse(sent, responses);
+    }
+
+    /**
+     * Send all the requests asynchronously, larger batches are sent as concurrent chunks.
+     *
+     * @return Responses in the same order as requests were added
+     */
+    public CompletableFuture<ZkSyncBatchResponse> sendAsync() {
+        List<Request<?, ? extends Response<?>>> sent = new ArrayList<>(requests);
+        List<List<Request<?, ? extends Response<?>>>> chunks = chunks(sent);
+        List<CompletableFuture<List<Response<?>>>> futures = new ArrayList<>(chunks.size());
+        for (List<Request<?, ? extends Response<?>>> chunk : chunks) {
+            futures.add(web3jService.sendBatchAsync(toRawBatch(chunk)).thenApply(response -> match(chunk, response)));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    List<Response<?>> responses = new ArrayList<>(sent.size());
+                    futures.forEach(future -> responses.addAll(future.join()));
+                    return new ZkSyncBatchResponse(sent, responses);
+                });
+    }
+
+    private List<List<Request<?, ? extends Response<?>>>> chunks(List<Request<?, ? extends Response<?>>> requests) {
+        List<List<Request<?, ? extends Response<?>>>> chunks = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i += maxBatchSize) {
+            chunks.add(requests.subList(i, Math.min(requests.size(), i + maxBatchSize)));
+        }
+
+        return chunks;
+    }
+
+    private BatchRequest toRawBatch(List<Request<?, ? extends Response<?>>> chunk) {
+        BatchRequest batch = new BatchRequest(web3jService);
+        for (Request<?, ? extends Response<?>> request : chunk) {
+            Request<?, RawResponse> raw = new Request<>(request.getMethod(), request.getParams(), web3jService, RawResponse.class);
+            raw.setId(request.getId());
+            batch.add(raw);
+        }
+
+        return batch;
+    }
+
+    private static List<Response<?>> match(List<Request<?, ? extends Response<?>>> chunk, BatchResponse batchResponse) {
+        Map<Long, RawResponse> byId = new HashMap<>();
+        if (batchResponse != null) {
+            for (Response<?> response : batchResponse.getResponses()) {
+                byId.put(response.getId(), (RawResponse) response);
+            }
+        }
+
+        List<Response<?>> responses = new ArrayList<>(chunk.size());
+        for (Request<?, ? extends Response<?>> request : chunk) {
+            responses.add(convert(request, byId.get(request.getId())));
+        }
+
+        return responses;
+    }
+
+    private static <T extends Response<?>> T convert(Request<?, T> request, RawResponse raw) {
+        if (raw == null) {
+            return failed(request, new Response.Error(MISSING_RESPONSE_ERROR_CODE,
+                    String.format("No response for request %d (%s) in the batch", request.getId(), request.getMethod())));
+        }
+        if (raw.hasError()) {
+            return failed(request, raw.getError());
+        }
+
+        ObjectNode node = OBJECT_MAPPER.createObjectNode();
+        node.put("jsonrpc", raw.getJsonrpc());
+        node.put("id", raw.getId());
+        node.set("result", raw.getResult());
+        try {
+            return OBJECT_MAPPER.treeToValue(node, request.getResponseType());
+        } catch (JsonProcessingException e) {
+            return failed(request, new Response.Error(INVALID_RESPONSE_ERROR_CODE, e.getOriginalMessage()));
+        }
+    }
+
+    private static <T extends Response<?>> T failed(Request<?, T> request, Response.Error error) {
+        final T response;
+        try {
+            response = request.getResponseType().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Response type must have default constructor: " + request.getResponseType(), e);
+        }
+        response.setId(request.getId());
+        response.setJsonrpc(request.getJsonrpc());
+        response.setError(error);
+
+        return response;
+    }
+
+}
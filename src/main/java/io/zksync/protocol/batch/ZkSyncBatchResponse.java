@@ -0,0 +1,83 @@
+package io.zksync.protocol.batch;
+
+import io.zksync.protocol.exceptions.JsonRpcResponseException;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of the {@link ZkSyncBatchRequest}. Every request has a response at the same position,
+ * failed elements carry {@link Response.Error} instead of the result.
+ */
+public class ZkSyncBatchResponse {
+
+    private final List<Request<?, ? extends Response<?>>> requests;
+    private final List<Response<?>> responses;
+
+    ZkSyncBatchResponse(List<Request<?, ? extends Response<?>>> requests, List<Response<?>> responses) {
+        this.requests = Collections.unmodifiableList(new ArrayList<>(requests));
+        this.responses = Collections.unmodifiableList(responses);
+    }
+
+    /**
+     * Get typed response of the request, which may contain an error.
+     *
+     * @param entry Handle returned by {@link ZkSyncBatchRequest#add(Request)}
+     * @param <T> Response type
+     * @return Response of the request
+     */
+    public <T extends Response<?>> T get(BatchEntry<T> entry) {
+        return entry.getResponseType().cast(responses.get(entry.getIndex()));
+    }
+
+    /**
+     * Get typed response of the request.
+     *
+     * @param entry Handle returned by {@link ZkSyncBatchRequest#add(Request)}
+     * @param <T> Response type
+     * @return Successful response of the request
+     * @throws JsonRpcResponseException If node returned an error for this request
+     */
+    public <T extends Response<?>> T getOrThrow(BatchEntry<T> entry) {
+        T response = get(entry);
+        if (response.hasError()) {
+            throw new JsonRpcResponseException(response);
+        }
+
+        return response;
+    }
+
+    public List<Request<?, ? extends Response<?>>> getRequests() {
+        return requests;
+    }
+
+    public List<Response<?>> getResponses() {
+        return responses;
+    }
+
+    public boolean hasErrors() {
+        return responses.stream().anyMatch(Response::hasError);
+    }
+
+    /**
+     * Get errors of the failed requests.
+     *
+     * @return Errors by position of the request in the batch
+     */
+    public Map<Integer, Response.Error> getErrors() {
+        Map<Integer, Response.Error> errors = new LinkedHashMap<>();
+        for (int i = 0; i < responses.size(); i++) {
+            if (responses.get(i).hasError()) {
+                errors.put(i, responses.get(i).getError());
+            }
+        }
+
+        return errors;
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.zksync.protocol.core;
+
+import org.web3j.protocol.core.RemoteCall;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Remote call backed by an asynchronous computation. {@link #sendAsync()} returns the composed future
+ * directly instead of running {@link #send()} on a pooled thread, {@link #send()} and {@link #flowable()} wait for it.
+ *
+ * @param <T> Type of the call result
+ */
+public class AsyncRemoteCall<T> extends RemoteCall<T> {
+
+    private final Supplier<CompletableFuture<T>> supplier;
+
+    /**
+     * @param supplier Starts the computation, called once per {@link #send()} or {@link #sendAsync()}
+     */
+    public AsyncRemoteCall(Supplier<CompletableFuture<T>> supplier) {
+        super(() -> join(supplier.get()));
+        this.supplier = supplier;
+    }
+
+    @Override
+    public CompletableFuture<T> sendAsync() {
+        return supplier.get();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
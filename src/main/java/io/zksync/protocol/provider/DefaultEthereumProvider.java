@@ -35,6 +35,9 @@ public class DefaultEthereumProvider implements EthereumProvider {
     private final IL1Bridge l1ERC20Bridge;
     private final IL1Bridge l1EthBridge;
 
+    private final ContractCache<ERC20> tokens = new ContractCache<>(this::loadToken);
+    private final ContractCache<ERC20> readonlyTokens = new ContractCache<>(this::loadReadonlyToken);
+
     public CompletableFuture<BigInteger> getGasPrice() {
         return web3j.ethGasPrice()
                 .sendAsync()
@@ -43,8 +46,7 @@ public class DefaultEthereumProvider implements EthereumProvider {
 
     @Override
     public CompletableFuture<TransactionReceipt> approveDeposits(Token token, Optional<BigInteger> limit) {
-        ERC20 tokenContract = ERC20.load(token.getL1Address(), web3j, transactionManager,
-                gasProvider);
+        ERC20 tokenContract = tokens.get(token.getL1Address(), transactionManager);
         return tokenContract.approve(l1ERC20BridgeAddress(), limit.orElse(MAX_APPROVE_AMOUNT)).sendAsync();
     }
 
@@ -54,8 +56,7 @@ public class DefaultEthereumProvider implements EthereumProvider {
             Transfer transfer = new Transfer(web3j, transactionManager);
             return transfer.sendFunds(to, new BigDecimal(amount), Unit.WEI).sendAsync();
         } else {
-            ERC20 tokenContract = ERC20.load(token.getL1Address(), web3j, transactionManager,
-                    gasProvider);
+            ERC20 tokenContract = tokens.get(token.getL1Address(), transactionManager);
             return tokenContract.transfer(to, amount).sendAsync();
         }
     }
@@ -87,8 +88,7 @@ public class DefaultEthereumProvider implements EthereumProvider {
 
     @Override
     public CompletableFuture<Boolean> isDepositApproved(Token token, String to, Optional<BigInteger> threshold) {
-        ERC20 tokenContract = ERC20.load(token.getL1Address(), web3j, transactionManager,
-                DEFAULT_GAS_PROVIDER);
+        ERC20 tokenContract = readonlyTokens.get(token.getL1Address(), transactionManager);
         return tokenContract.allowance(to, l1ERC20BridgeAddress()).sendAsync()
                 .thenApply(allowance -> allowance.compareTo(threshold.orElse(DEFAULT_THRESHOLD)) >= 0);
     }
@@ -102,4 +102,12 @@ public class DefaultEthereumProvider implements EthereumProvider {
     public String l1EthBridgeAddress() {
         return l1EthBridge.getContractAddress();
     }
+
+    private ERC20 loadToken(String address, TransactionManager transactionManager) {
+        return ERC20.load(address, web3j, transactionManager, gasProvider);
+    }
+
+    private ERC20 loadReadonlyToken(String address, TransactionManager transactionManager) {
+        return ERC20.load(address, web3j, transactionManager, DEFAULT_GAS_PROVIDER);
+    }
 }
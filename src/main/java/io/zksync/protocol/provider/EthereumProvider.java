@@ -4,15 +4,15 @@ import java.math.BigInteger;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
-import io.zksync.protocol.core.BridgeAddresses;
-import io.zksync.protocol.exceptions.JsonRpcResponseException;
 import io.zksync.wrappers.IL1Bridge;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.tx.TransactionManager;
 import org.web3j.tx.gas.ContractGasProvider;
 
+import io.zksync.protocol.TokenRegistry;
 import io.zksync.protocol.ZkSync;
+import io.zksync.protocol.ZkSyncNetworkContext;
 import io.zksync.protocol.core.Token;
 
 
@@ -67,6 +67,33 @@ public interface EthereumProvider {
      */
     CompletableFuture<Boolean> isDepositApproved(Token token, String to, Optional<BigInteger> threshold);
 
+    /**
+     * Send approve transaction to token contract found in the registry.
+     *
+     * @param tokens - Registry of the tokens supported by ZkSync
+     * @param token - L1 address, L2 address or symbol of the token
+     * @param limit - Maximum amount to approve for ZkSync contract
+     * @return CompletableFuture for waiting for transaction mine
+     */
+    default CompletableFuture<TransactionReceipt> approveDeposits(TokenRegistry tokens, String token, Optional<BigInteger> limit) {
+        return tokens.resolve(token).thenCompose(resolved -> approveDeposits(
+                resolved.orElseThrow(() -> new IllegalArgumentException("Unknown token: " + token)), limit));
+    }
+
+    /**
+     * Send deposit transaction of the token found in the registry. @see EthereumProvider.deposit
+     *
+     * @param tokens - Registry of the tokens supported by ZkSync
+     * @param token - L1 address, L2 address or symbol of the token
+     * @param amount - Amount tokens to transfer
+     * @param userAddress - Address of L2 receiver deposit in ZkSync
+     * @return CompletableFuture for waiting for transaction mine
+     */
+    default CompletableFuture<TransactionReceipt> deposit(TokenRegistry tokens, String token, BigInteger amount, String userAddress) {
+        return tokens.resolve(token).thenCompose(resolved -> deposit(
+                resolved.orElseThrow(() -> new IllegalArgumentException("Unknown token: " + token)), amount, userAddress));
+    }
+
     /**
      * Get ZkSync Bridge for ERC20 smart-contract address in Ethereum blockchain
      *
@@ -82,17 +109,15 @@ public interface EthereumProvider {
     String l1EthBridgeAddress();
 
     static CompletableFuture<EthereumProvider> load(ZkSync zksync, Web3j ethereum, TransactionManager transactionManager, ContractGasProvider gasProvider) {
-        return zksync.zksGetBridgeContracts()
-            .sendAsync()
-            .thenApply(response -> {
-                if (!response.hasError()) {
-                    BridgeAddresses bridgeAddresses = response.getResult();
-                    IL1Bridge erc20Bridge = IL1Bridge.load(bridgeAddresses.getL1Erc20DefaultBridge(), ethereum, transactionManager, gasProvider);
-                    IL1Bridge ethBridge = IL1Bridge.load(bridgeAddresses.getL1EthDefaultBridge(), ethereum, transactionManager, gasProvider);
-                    return new DefaultEthereumProvider(ethereum, transactionManager, gasProvider, null, erc20Bridge, ethBridge);
-                } else {
-                    throw new JsonRpcResponseException(response);
-                }
+        return load(ZkSyncNetworkContext.of(zksync), ethereum, transactionManager, gasProvider);
+    }
+
+    static CompletableFuture<EthereumProvider> load(ZkSyncNetworkContext context, Web3j ethereum, TransactionManager transactionManager, ContractGasProvider gasProvider) {
+        return context.getBridgeAddresses()
+            .thenApply(bridgeAddresses -> {
+                IL1Bridge erc20Bridge = IL1Bridge.load(bridgeAddresses.getL1Erc20DefaultBridge(), ethereum, transactionManager, gasProvider);
+                IL1Bridge ethBridge = IL1Bridge.load(bridgeAddresses.getL1EthDefaultBridge(), ethereum, transactionManager, gasProvider);
+                return new DefaultEthereumProvider(ethereum, transactionManager, gasProvider, null, erc20Bridge, ethBridge);
             });
     }
 
@@ -0,0 +1,293 @@
+package io.zksync.transaction.fee;
+
+import io.zksync.methods.request.Transaction;
+import io.zksync.protocol.core.Token;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorator of {@link ZkTransactionFeeProvider} caching gas limit estimations by the shape of the call:
+ * target address, function selector, calldata length and paymaster. Repeated calls of the same shape
+ * (e.g. ERC20 transfers) skip {@code eth_estimateGas} and get the largest seen estimation multiplied by the safety multiplier.
+ *
+ * <p>Transactions with factory dependencies (deployments) are never cached.
+ * Report the actual gas usage and out of gas failures with {@link #reportGasUsed(Transaction, BigInteger)}
+ * and {@link #reportFailure(Transaction, Throwable)} to drop estimations that are too low.
+ */
+public class CachedGasLimitFeeProvider implements ZkTransactionFeeProvider {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final double DEFAULT_SAFETY_MULTIPLIER = 1.2;
+
+    private final ZkTransactionFeeProvider delegate;
+    private final BigDecimal safetyMultiplier;
+    private final Map<CallShape, BigInteger> cache;
+    private final Map<CallShape, CompletableFuture<BigInteger>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CachedGasLimitFeeProvider(ZkTransactionFeeProvider delegate) {
+        this(delegate, DEFAULT_CAPACITY, DEFAULT_SAFETY_MULTIPLIER);
+    }
+
+    /**
+     * @param delegate Provider used for estimations and for all other values
+     * @param capacity Maximum amount of cached call shapes, least recently used are evicted
+     * @param safetyMultiplier Factor applied to the cached estimation, must be at least 1
+     */
+    public CachedGasLimitFeeProvider(ZkTransactionFeeProvider delegate, int capacity, double safetyMultiplier) {
+        if (capacity <= 0 || safetyMultiplier < 1) {
+            throw new IllegalArgumentException("Capacity must be positive and safety multiplier at least 1");
+        }
+        this.delegate = delegate;
+        this.safetyMultiplier = BigDecimal.valueOf(safetyMultiplier);
+        this.cache = new LinkedHashMap<CallShape, BigInteger>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CallShape, BigInteger> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    @Override
+    public CompletableFuture<BigInteger> getGasLimitAsync(Transaction transaction) {
+        CallShape shape = CallShape.of(transaction);
+        if (shape == null) {
+            return delegate.getGasLimitAsync(transaction);
+        }
+
+        BigInteger cached;
+        synchronized (cache) {
+            cached = cache.get(shape);
+        }
+        if (cached != null) {
+            hits.increment();
+            return CompletableFuture.completedFuture(applyMultiplier(cached));
+        }
+
+        misses.increment();
+        // Concurrent misses of the same shape share one estimation
+        CompletableFuture<BigInteger> created = new CompletableFuture<>();
+        CompletableFuture<BigInteger> existing = inFlight.putIfAbsent(shape, created);
+        if (existing != null) {
+            return existing.thenApply(this::applyMultiplier);
+        }
+
+        delegate.getGasLimitAsync(transaction).whenComplete((estimate, error) -> {
+            if (error == null) {
+                synchronized (cache) {
+                    cache.merge(shape, estimate, BigInteger::max);
+                }
+            }
+            inFlight.remove(shape, created);
+            if (error == null) {
+                created.complete(estimate);
+            } else {
+                created.completeExceptionally(error);
+            }
+        });
+
+        return created.thenApply(this::applyMultiplier);
+    }
+
+    @Override
+    public BigInteger getGasLimit(Transaction transaction) {
+        try {
+            return getGasLimitAsync(transaction).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Report gas used by the included transaction. Estimation of the call shape is dropped
+     * when the transaction used more gas than the cached estimation.
+     *
+     * @param transaction Transaction used for the estimation
+     * @param gasUsed Gas used by the transaction from its receipt
+     */
+    @Override
+    public void reportGasUsed(Transaction transaction, BigInteger gasUsed) {
+        delegate.reportGasUsed(transaction, gasUsed);
+        CallShape shape = CallShape.of(transaction);
+        if (shape == null || gasUsed == null) {
+            return;
+        }
+        synchronized (cache) {
+            BigInteger cached = cache.get(shape);
+            if (cached != null && gasUsed.compareTo(cached) > 0) {
+                cache.remove(shape);
+            }
+        }
+    }
+
+    /**
+     * Report failed send of the transaction. Estimation of the call shape is dropped on out of gas errors.
+     *
+     * @param transaction Transaction used for the estimation
+     * @param error Failure of the send
+     */
+    @Override
+    public void reportFailure(Transaction transaction, Throwable error) {
+        delegate.reportFailure(transaction, error);
+        if (isOutOfGas(error)) {
+            invalidate(transaction);
+        }
+    }
+
+    /**
+     * Drop cached estimation of the transaction call shape.
+     *
+     * @param transaction Transaction of the call shape
+     */
+    public void invalidate(Transaction transaction) {
+        CallShape shape = CallShape.of(transaction);
+        if (shape != null) {
+            synchronized (cache) {
+                cache.remove(shape);
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    @Override
+    public Fee getFee(Transaction transaction) {
+        return delegate.getFee(transaction);
+    }
+
+    @Override
+    public Token getFeeToken() {
+        return delegate.getFeeToken();
+    }
+
+    @Override
+    public BigInteger getGasPrice(String contractFunc) {
+        return delegate.getGasPrice(contractFunc);
+    }
+
+    @Override
+    public BigInteger getGasPrice() {
+        return delegate.getGasPrice();
+    }
+
+    @Override
+    public CompletableFuture<BigInteger> getGasPriceAsync() {
+        return delegate.getGasPriceAsync();
+    }
+
+    @Override
+    public BigInteger getGasLimit(String contractFunc) {
+        return delegate.getGasLimit(contractFunc);
+    }
+
+    @Override
+    public BigInteger getGasLimit() {
+        return delegate.getGasLimit();
+    }
+
+    private BigInteger applyMultiplier(BigInteger estimate) {
+        return new BigDecimal(estimate).multiply(safetyMultiplier).setScale(0, RoundingMode.CEILING).toBigInteger();
+    }
+
+    static boolean isOutOfGas(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        String message = cause == null ? null : cause.getMessage();
+        if (message == null) {
+            return false;
+        }
+        message = message.toLowerCase();
+        return message.contains("out of gas") || message.contains("not enough gas");
+    }
+
+    /**
+     * Key of the gas limit cache.
+     */
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    public static final class CallShape {
+        private final String to;
+        private final String selector;
+        private final int calldataLength;
+        private final boolean withValue;
+        @Nullable
+        private final String paymaster;
+
+        private CallShape(String to, String selector, int calldataLength, boolean withValue, @Nullable String paymaster) {
+            this.to = to;
+            this.selector = selector;
+            this.calldataLength = calldataLength;
+            this.withValue = withValue;
+            this.paymaster = paymaster;
+        }
+
+        /**
+         * @param transaction Transaction for estimation
+         * @return Call shape of the transaction, null if the transaction can't be cached
+         */
+        @Nullable
+        public static CallShape of(Transaction transaction) {
+            if (transaction.getTo() == null) {
+                return null;
+            }
+            String paymaster = null;
+            if (transaction.getEip712Meta() != null) {
+                byte[][] factoryDeps = transaction.getEip712Meta().getFactoryDeps();
+                if (factoryDeps != null && factoryDeps.length > 0) {
+                    return null;
+                }
+                if (transaction.getEip712Meta().getPaymasterParams() != null
+                        && transaction.getEip712Meta().getPaymasterParams().getPaymaster() != null) {
+                    paymaster = transaction.getEip712Meta().getPaymasterParams().getPaymaster().toLowerCase();
+                }
+            }
+
+            String data = transaction.getData();
+            String hex = data == null ? "" : (data.startsWith("0x") ? data.substring(2) : data);
+            String selector = hex.length() >= 8 ? hex.substring(0, 8).toLowerCase() : "";
+            BigInteger value = transaction.getValueNumber();
+
+            return new CallShape(transaction.getTo().toLowerCase(), selector, hex.length() / 2,
+                    value != null && value.signum() > 0, paymaster);
+        }
+    }
+}
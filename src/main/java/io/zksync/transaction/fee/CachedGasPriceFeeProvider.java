@@ -0,0 +1,219 @@
+package io.zksync.transaction.fee;
+
+import io.zksync.methods.request.Transaction;
+import io.zksync.protocol.core.Token;
+
+import java.io.Closeable;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Decorator of {@link ZkTransactionFeeProvider} caching the gas price. Gas price is refreshed in the background
+ * and read lock-free from a volatile snapshot, so sending a transaction doesn't wait for {@code eth_gasPrice}.
+ * When the snapshot becomes older than the staleness bound (e.g. background refreshes fail), reads wait for a fresh value.
+ *
+ * <p>Refresh on each new block can be set up by calling {@link #refresh()} from the block notifications
+ * and passing a zero refresh interval.
+ */
+public class CachedGasPriceFeeProvider implements ZkTransactionFeeProvider, Closeable {
+
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(5);
+    public static final Duration DEFAULT_MAX_STALENESS = Duration.ofSeconds(30);
+
+    private final ZkTransactionFeeProvider delegate;
+    private final long maxStalenessMillis;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownScheduler;
+    private final ScheduledFuture<?> task;
+
+    private final AtomicReference<CompletableFuture<BigInteger>> inFlight = new AtomicReference<>();
+    private volatile Snapshot snapshot;
+
+    public CachedGasPriceFeeProvider(ZkTransactionFeeProvider delegate) {
+        this(delegate, DEFAULT_REFRESH_INTERVAL, DEFAULT_MAX_STALENESS);
+    }
+
+    /**
+     * @param delegate Provider used for fetching the gas price and for all other values
+     * @param refreshInterval Interval of the background refresh, zero disables it
+     * @param maxStaleness Maximum age of the gas price served without waiting for refresh
+     */
+    public CachedGasPriceFeeProvider(ZkTransactionFeeProvider delegate, Duration refreshInterval, Duration maxStaleness) {
+        this(delegate, refreshInterval, maxStaleness, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "zksync-gas-price-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * @param delegate Provider used for fetching the gas price and for all other values
+     * @param refreshInterval Interval of the background refresh, zero disables it
+     * @param maxStaleness Maximum age of the gas price served without waiting for refresh
+     * @param scheduler Scheduler of the background refresh, it is not shut down on {@link #close()}
+     */
+    public CachedGasPriceFeeProvider(ZkTransactionFeeProvider delegate, Duration refreshInterval, Duration maxStaleness,
+                                     ScheduledExecutorService scheduler) {
+        this(delegate, refreshInterval, maxStaleness, scheduler, false);
+    }
+
+    private CachedGasPriceFeeProvider(ZkTransactionFeeProvider delegate, Duration refreshInterval, Duration maxStaleness,
+                                      ScheduledExecutorService scheduler, boolean ownScheduler) {
+        if (refreshInterval.isNegative() || maxStaleness.isNegative()) {
+            throw new IllegalArgumentException("Refresh interval and staleness must not be negative");
+        }
+        this.delegate = delegate;
+        this.maxStalenessMillis = maxStaleness.toMillis();
+        this.scheduler = scheduler;
+        this.ownScheduler = ownScheduler;
+        if (refreshInterval.isZero()) {
+            this.task = null;
+        } else {
+            long interval = refreshInterval.toMillis();
+            this.task = scheduler.scheduleWithFixedDelay(this::refresh, 0, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Fetch the gas price from the delegate. Concurrent calls share the same request.
+     *
+     * @return Future of the fresh gas price
+     */
+    public CompletableFuture<BigInteger> refresh() {
+        CompletableFuture<BigInteger> current = inFlight.get();
+        if (current != null) {
+            return current;
+        }
+
+        CompletableFuture<BigInteger> created = new CompletableFuture<>();
+        if (!inFlight.compareAndSet(null, created)) {
+            CompletableFuture<BigInteger> other = inFlight.get();
+            return other != null ? other : refresh();
+        }
+
+        CompletableFuture<BigInteger> fetched;
+        try {
+            fetched = delegate.getGasPriceAsync();
+        } catch (RuntimeException e) {
+            inFlight.set(null);
+            created.completeExceptionally(e);
+            return created;
+        }
+
+        fetched.whenComplete((gasPrice, error) -> {
+            if (error == null) {
+                snapshot = new Snapshot(gasPrice, System.currentTimeMillis());
+            }
+            inFlight.set(null);
+            if (error == null) {
+                created.complete(gasPrice);
+            } else {
+                created.completeExceptionally(error);
+            }
+        });
+
+        return created;
+    }
+
+    /**
+     * @return Age of the cached gas price, null if it was never fetched
+     */
+    public Duration getStaleness() {
+        Snapshot current = snapshot;
+        return current == null ? null : Duration.ofMillis(System.currentTimeMillis() - current.updatedAt);
+    }
+
+    /**
+     * @return Cached gas price without refreshing it, null if it was never fetched
+     */
+    public BigInteger getCachedGasPrice() {
+        Snapshot current = snapshot;
+        return current == null ? null : current.gasPrice;
+    }
+
+    @Override
+    public CompletableFuture<BigInteger> getGasPriceAsync() {
+        Snapshot current = snapshot;
+        if (current != null && System.currentTimeMillis() - current.updatedAt <= maxStalenessMillis) {
+            return CompletableFuture.completedFuture(current.gasPrice);
+        }
+
+        return refresh();
+    }
+
+    @Override
+    public BigInteger getGasPrice(String contractFunc) {
+        return getGasPriceAsync().join();
+    }
+
+    @Override
+    public BigInteger getGasPrice() {
+        return getGasPriceAsync().join();
+    }
+
+    @Override
+    public Fee getFee(Transaction transaction) {
+        return delegate.getFee(transaction);
+    }
+
+    @Override
+    public Token getFeeToken() {
+        return delegate.getFeeToken();
+    }
+
+    @Override
+    public BigInteger getGasLimit(String contractFunc) {
+        return delegate.getGasLimit(contractFunc);
+    }
+
+    @Override
+    public BigInteger getGasLimit() {
+        return delegate.getGasLimit();
+    }
+
+    @Override
+    public BigInteger getGasLimit(Transaction transaction) {
+        return delegate.getGasLimit(transaction);
+    }
+
+    @Override
+    public CompletableFuture<BigInteger> getGasLimitAsync(Transaction transaction) {
+        return delegate.getGasLimitAsync(transaction);
+    }
+
+    @Override
+    public void reportGasUsed(Transaction transaction, BigInteger gasUsed) {
+        delegate.reportGasUsed(transaction, gasUsed);
+    }
+
+    @Override
+    public void reportFailure(Transaction transaction, Throwable error) {
+        delegate.reportFailure(transaction, error);
+    }
+
+    @Override
+    public void close() {
+        if (task != null) {
+            task.cancel(false);
+        }
+        if (ownScheduler) {
+            scheduler.shutdown();
+        }
+    }
+
+    private static class Snapshot {
+        private final BigInteger gasPrice;
+        private final long updatedAt;
+
+        Snapshot(BigInteger gasPrice, long updatedAt) {
+            this.gasPrice = gasPrice;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
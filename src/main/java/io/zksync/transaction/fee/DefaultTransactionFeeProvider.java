@@ -9,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
 
 @AllArgsConstructor
 public class DefaultTransactionFeeProvider implements ZkTransactionFeeProvider {
@@ -33,14 +34,16 @@ public class DefaultTransactionFeeProvider implements ZkTransactionFeeProvider {
         return this.feeToken;
     }
 
+    @SneakyThrows
     @Override
     public BigInteger getGasPrice(String contractFunc) {
-        return zksync.ethGasPrice().sendAsync().join().getGasPrice();
+        return zksync.ethGasPrice().send().getGasPrice();
     }
 
+    @SneakyThrows
     @Override
     public BigInteger getGasPrice() {
-        return zksync.ethGasPrice().sendAsync().join().getGasPrice();
+        return zksync.ethGasPrice().send().getGasPrice();
     }
 
     @Override
@@ -53,8 +56,31 @@ public class DefaultTransactionFeeProvider implements ZkTransactionFeeProvider {
         return null;
     }
 
+    @SneakyThrows
     @Override
     public BigInteger getGasLimit(Transaction transaction) {
-        return zksync.ethEstimateGas(transaction).sendAsync().join().getAmountUsed();
+        return zksync.ethEstimateGas(transaction).send().getAmountUsed();
+    }
+
+    @Override
+    public CompletableFuture<BigInteger> getGasPriceAsync() {
+        return zksync.ethGasPrice().sendAsync()
+                .thenApply(response -> {
+                    if (response.hasError()) {
+                        throw new JsonRpcResponseException(response);
+                    }
+                    return response.getGasPrice();
+                });
+    }
+
+    @Override
+    public CompletableFuture<BigInteger> getGasLimitAsync(Transaction transaction) {
+        return zksync.ethEstimateGas(transaction).sendAsync()
+                .thenApply(response -> {
+                    if (response.hasError()) {
+                        throw new JsonRpcResponseException(response);
+                    }
+                    return response.getAmountUsed();
+                });
     }
 }
@@ -2,9 +2,11 @@ package io.zksync.transaction.fee;
 
 import io.zksync.methods.request.Transaction;
 import io.zksync.protocol.core.Token;
+import io.zksync.utils.ZkSyncExecutors;
 import org.web3j.tx.gas.ContractGasProvider;
 
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
 
 public interface ZkTransactionFeeProvider extends ContractGasProvider {
 
@@ -13,5 +15,43 @@ public interface ZkTransactionFeeProvider extends ContractGasProvider {
     BigInteger getGasLimit(Transaction transaction);
 
     Token getFeeToken();
-    
+
+    /**
+     * Get gas price without blocking the caller thread, by default runs {@link #getGasPrice()} on {@link ZkSyncExecutors#getDefault()}.
+     *
+     * @return Gas price future
+     */
+    default CompletableFuture<BigInteger> getGasPriceAsync() {
+        return CompletableFuture.supplyAsync(this::getGasPrice, ZkSyncExecutors.getDefault());
+    }
+
+    /**
+     * Estimate gas limit of the transaction without blocking the caller thread, by default runs
+     * {@link #getGasLimit(Transaction)} on {@link ZkSyncExecutors#getDefault()}.
+     *
+     * @param transaction Transaction data for estimation
+     * @return Gas limit future
+     */
+    default CompletableFuture<BigInteger> getGasLimitAsync(Transaction transaction) {
+        return CompletableFuture.supplyAsync(() -> getGasLimit(transaction), ZkSyncExecutors.getDefault());
+    }
+
+    /**
+     * Report gas used by the included transaction, does nothing by default. Decorators pass it to the delegate.
+     *
+     * @param transaction Transaction used for the estimation
+     * @param gasUsed Gas used by the transaction from its receipt
+     */
+    default void reportGasUsed(Transaction transaction, BigInteger gasUsed) {
+    }
+
+    /**
+     * Report failed send of the transaction, does nothing by default. Decorators pass it to the delegate.
+     *
+     * @param transaction Transaction used for the estimation
+     * @param error Failure of the send
+     */
+    default void reportFailure(Transaction transaction, Throwable error) {
+    }
+
 }
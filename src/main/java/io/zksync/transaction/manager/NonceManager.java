@@ -0,0 +1,172 @@
+package io.zksync.transaction.manager;
+
+import io.zksync.protocol.ZkSync;
+import io.zksync.protocol.core.ZkBlockParameterName;
+import io.zksync.protocol.exceptions.JsonRpcResponseException;
+import org.web3j.protocol.core.DefaultBlockParameter;
+
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Local nonce allocator of a single account. Nonce is read from the chain once and then reserved locally,
+ * so many transactions can be signed and sent back-to-back without waiting for receipts.
+ *
+ * <p>Share one instance between all the senders of the same address. Nonces of transactions which surely
+ * didn't reach the node are returned with {@link #release(BigInteger)} and reused first to fill the gaps;
+ * nonce errors reported by the node and transport failures trigger {@link #resync()}.
+ */
+public class NonceManager {
+
+    private final ZkSync zksync;
+    private final String address;
+    private final DefaultBlockParameter at;
+
+    private final AtomicLong next = new AtomicLong();
+    private final ConcurrentSkipListSet<Long> released = new ConcurrentSkipListSet<>();
+    private final AtomicReference<CompletableFuture<Void>> sync = new AtomicReference<>();
+
+    public NonceManager(ZkSync zksync, String address) {
+        this(zksync, address, ZkBlockParameterName.COMMITTED);
+    }
+
+    /**
+     * @param zksync ZkSync client
+     * @param address Account address
+     * @param at Block used for reading the nonce from the chain
+     */
+    public NonceManager(ZkSync zksync, String address, DefaultBlockParameter at) {
+        this.zksync = zksync;
+        this.address = address;
+        this.at = at;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * Reserve the next nonce. Only the first call (and calls after {@link #resync()}) reach the node.
+     *
+     * @return Future of the reserved nonce
+     */
+    public CompletableFuture<BigInteger> reserve() {
+        CompletableFuture<Void> current = sync.get();
+        if (current == null) {
+            current = resync(null);
+        }
+
+        return current.thenApply(ignored -> {
+            Long gap = released.pollFirst();
+            return BigInteger.valueOf(gap != null ? gap : next.getAndIncrement());
+        });
+    }
+
+    /**
+     * Return the nonce of the transaction which wasn't accepted by the node, it will be reserved again first.
+     *
+     * @param nonce Previously reserved nonce
+     */
+    public void release(BigInteger nonce) {
+        long value = nonce.longValueExact();
+        if (value < next.get()) {
+            released.add(value);
+        }
+    }
+
+    /**
+     * Read the nonce from the chain again and drop the released ones. Concurrent calls share one request.
+     *
+     * @return Future completed when the local state is updated
+     */
+    public CompletableFuture<Void> resync() {
+        CompletableFuture<Void> current = sync.get();
+        return current != null && !current.isDone() ? current : resync(current);
+    }
+
+    /**
+     * Handle the failure of the transaction sent with the reserved nonce, same as
+     * {@link #handleError(BigInteger, Throwable, boolean)} with the transaction handed to the transport.
+     *
+     * @param nonce Reserved nonce of the failed transaction
+     * @param error Failure of the send
+     * @return true if local state is synchronized again
+     */
+    public boolean handleError(BigInteger nonce, Throwable error) {
+        return handleError(nonce, error, true);
+    }
+
+    /**
+     * Handle the failure of the transaction with the reserved nonce. The nonce is released only when the transaction
+     * surely didn't reach the node: the failure happened before the send or the node rejected the transaction.
+     * On nonce errors and transport failures (the node may have accepted the transaction) the nonce is read again.
+     *
+     * @param nonce Reserved nonce of the failed transaction
+     * @param error Failure of estimation, signing or sending
+     * @param sent Whether the signed transaction was handed to the transport
+     * @return true if local state is synchronized again
+     */
+    public boolean handleError(BigInteger nonce, Throwable error, boolean sent) {
+        if (isNonceError(error) || (sent && !(unwrap(error) instanceof JsonRpcResponseException))) {
+            resync();
+            return true;
+        }
+
+        release(nonce);
+        return false;
+    }
+
+    /**
+     * Check whether the node rejected the transaction because of its nonce
+     *
+     * @param error Failure of the send
+     * @return true on `nonce too low` or `nonce too high` errors
+     */
+    public static boolean isNonceError(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (!(cause instanceof JsonRpcResponseException) || cause.getMessage() == null) {
+            return false;
+        }
+
+        String message = cause.getMessage().toLowerCase();
+        return message.contains("nonce") && (message.contains("low") || message.contains("high"));
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private CompletableFuture<Void> resync(CompletableFuture<Void> expected) {
+        CompletableFuture<Void> fresh = new CompletableFuture<>();
+        if (!sync.compareAndSet(expected, fresh)) {
+            CompletableFuture<Void> current = sync.get();
+            return current != null ? current : resync(null);
+        }
+
+        zksync.ethGetTransactionCount(address, at).sendAsync()
+                .whenComplete((response, error) -> {
+                    if (error == null && response.hasError()) {
+                        error = new JsonRpcResponseException(response);
+                    }
+                    if (error != null) {
+                        sync.compareAndSet(fresh, null);
+                        fresh.completeExceptionally(error);
+                    } else {
+                        released.clear();
+                        next.set(response.getTransactionCount().longValueExact());
+                        fresh.complete(null);
+                    }
+                });
+
+        return fresh;
+    }
+}
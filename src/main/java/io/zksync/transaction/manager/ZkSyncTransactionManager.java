@@ -10,6 +10,7 @@ import io.zksync.transaction.type.Transaction712;
 import io.zksync.protocol.ZkSync;
 import io.zksync.protocol.core.ZkBlockParameterName;
 import io.zksync.transaction.fee.ZkTransactionFeeProvider;
+import org.jetbrains.annotations.Nullable;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.methods.response.EthCall;
 import org.web3j.protocol.core.methods.response.EthGetCode;
@@ -32,18 +33,30 @@ public class ZkSyncTransactionManager extends TransactionManager {
     private final EthSigner signer;
 
     private final ZkTransactionFeeProvider feeProvider;
+    @Nullable
+    private final NonceManager nonceManager;
 
     public ZkSyncTransactionManager(ZkSync zkSync, EthSigner signer, ZkTransactionFeeProvider feeProvider) {
+        this(zkSync, signer, feeProvider, null);
+    }
+
+    /**
+     * @param zkSync ZkSync client
+     * @param signer Signer of the transactions
+     * @param feeProvider Provider of gas price and gas limit
+     * @param nonceManager Local nonce allocator of the signer address, if null then nonce is read from the chain for every transaction
+     */
+    public ZkSyncTransactionManager(ZkSync zkSync, EthSigner signer, ZkTransactionFeeProvider feeProvider, @Nullable NonceManager nonceManager) {
         super(new ZkSyncTransactionReceiptProcessor(zkSync, DEFAULT_POLLING_FREQUENCY, DEFAULT_POLLING_ATTEMPTS_PER_TX_HASH), signer.getAddress());
 
         this.zkSync = zkSync;
         this.signer = signer;
         this.feeProvider = feeProvider;
+        this.nonceManager = nonceManager;
     }
 
     @Override
     public EthSendTransaction sendTransaction(BigInteger gasPrice, BigInteger gasLimit, String to, String data, BigInteger value, boolean constructor) throws IOException {
-        final Transaction712 transaction;
         long chainId = getSigner().getDomain().join().getChainId().getValue().longValue();
         if (gasPrice == null) {
             gasPrice = getFeeProvider().getGasPrice();
@@ -56,20 +69,26 @@ public class ZkSyncTransactionManager extends TransactionManager {
         );
         if (constructor) {
             throw new UnsupportedOperationException("Not supported deploying with Contract wrapper");
-        } else {
-            if (gasLimit == null) {
-                Transaction estimate = Transaction.createFunctionCallTransaction(
-                        getFromAddress(),
-                        to,
-                        BigInteger.ZERO,
-                        BigInteger.ZERO,
-                        data
-                );
-                gasLimit = getFeeProvider().getGasLimit(estimate);
-            }
-            transaction = new Transaction712(
+        }
+        if (gasLimit == null) {
+            Transaction estimate = Transaction.createFunctionCallTransaction(
+                    getFromAddress(),
+                    to,
+                    BigInteger.ZERO,
+                    BigInteger.ZERO,
+                    data
+            );
+            gasLimit = getFeeProvider().getGasLimit(estimate);
+        }
+
+        BigInteger nonce = getNonce();
+        // Until the transaction is handed to the transport the reserved nonce can be safely released
+        boolean sent = false;
+        final EthSendTransaction response;
+        try {
+            final Transaction712 transaction = new Transaction712(
                     chainId,
-                    getNonce(),
+                    nonce,
                     gasLimit,
                     to,
                     value,
@@ -79,15 +98,21 @@ public class ZkSyncTransactionManager extends TransactionManager {
                     getFromAddress(),
                     meta
             );
-        }
 
-        String signature = getSigner().getDomain().thenCompose(domain -> getSigner().signTypedData(domain, transaction)).join();
-        byte[] signed = TransactionEncoder.encode(transaction, TransactionEncoder.getSignatureData(signature));
+            String signature = getSigner().getDomain().thenCompose(domain -> getSigner().signTypedData(domain, transaction)).join();
+            byte[] signed = TransactionEncoder.encode(transaction, TransactionEncoder.getSignatureData(signature));
 
-        EthSendTransaction response = zkSync.ethSendRawTransaction(Numeric.toHexString(signed)).send();
+            sent = true;
+            response = zkSync.ethSendRawTransaction(Numeric.toHexString(signed)).send();
+        } catch (IOException | RuntimeException e) {
+            handleNonceError(nonce, e, sent);
+            throw e;
+        }
 
         if (response.hasError()) {
-            throw new JsonRpcResponseException(response);
+            JsonRpcResponseException error = new JsonRpcResponseException(response);
+            handleNonceError(nonce, error, true);
+            throw error;
         } else {
             return response;
         }
@@ -126,7 +151,16 @@ public class ZkSyncTransactionManager extends TransactionManager {
         return signer;
     }
 
+    @Nullable
+    public NonceManager getNonceManager() {
+        return nonceManager;
+    }
+
     protected BigInteger getNonce() throws IOException {
+        if (nonceManager != null) {
+            return nonceManager.reserve().join();
+        }
+
         EthGetTransactionCount ethGetTransactionCount =
                 zkSync.ethGetTransactionCount(
                                 getSigner().getAddress(), ZkBlockParameterName.COMMITTED)
@@ -135,6 +169,12 @@ public class ZkSyncTransactionManager extends TransactionManager {
         return ethGetTransactionCount.getTransactionCount();
     }
 
+    private void handleNonceError(BigInteger nonce, Exception error, boolean sent) {
+        if (nonceManager != null) {
+            nonceManager.handleError(nonce, error, sent);
+        }
+    }
+
     private boolean isVanillaEVMByteCode(String bytecodeHex) {
         return bytecodeHex.startsWith("0x60");
     }
@@ -0,0 +1,20 @@
+package io.zksync.transaction.response;
+
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Receipt processor that waits for transaction inclusion without blocking the calling thread.
+ */
+public interface AsyncTransactionReceiptProcessor {
+
+    /**
+     * Wait for the transaction receipt.
+     *
+     * @param transactionHash Hash of the sent transaction
+     * @return Future completed when the transaction is included into a block,
+     * or completed exceptionally with {@link org.web3j.protocol.exceptions.TransactionException} on timeout
+     */
+    CompletableFuture<TransactionReceipt> waitForTransactionReceiptAsync(String transactionHash);
+}
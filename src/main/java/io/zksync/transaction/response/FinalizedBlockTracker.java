@@ -0,0 +1,147 @@
+package io.zksync.transaction.response;
+
+import io.zksync.protocol.ZkSync;
+import io.zksync.protocol.core.ZkBlockParameterName;
+import org.web3j.protocol.core.methods.response.EthBlock;
+
+import java.io.Closeable;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits for blocks to be finalized on L1. The number of the last finalized block is polled once per interval
+ * for all waiting transactions, polling is stopped while nothing is waiting.
+ */
+public class FinalizedBlockTracker implements Closeable {
+
+    public static final long DEFAULT_POLLING_INTERVAL = TimeUnit.SECONDS.toMillis(30);
+
+    private final ZkSync zkSync;
+    private final long pollingInterval;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownScheduler;
+
+    private final ConcurrentSkipListMap<BigInteger, CompletableFuture<BigInteger>> waiting = new ConcurrentSkipListMap<>();
+    private volatile BigInteger finalized = BigInteger.valueOf(-1);
+    private ScheduledFuture<?> task;
+
+    public FinalizedBlockTracker(ZkSync zkSync) {
+        this(zkSync, DEFAULT_POLLING_INTERVAL);
+    }
+
+    /**
+     * @param zkSync ZkSync client
+     * @param pollingInterval Interval between the finalized block polls in milliseconds
+     */
+    public FinalizedBlockTracker(ZkSync zkSync, long pollingInterval) {
+        this(zkSync, pollingInterval, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "zksync-finalized-block-tracker");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * @param zkSync ZkSync client
+     * @param pollingInterval Interval between the finalized block polls in milliseconds
+     * @param scheduler Scheduler of the polls, it is not shut down on {@link #close()}
+     */
+    public FinalizedBlockTracker(ZkSync zkSync, long pollingInterval, ScheduledExecutorService scheduler) {
+        this(zkSync, pollingInterval, scheduler, false);
+    }
+
+    private FinalizedBlockTracker(ZkSync zkSync, long pollingInterval, ScheduledExecutorService scheduler, boolean ownScheduler) {
+        this.zkSync = zkSync;
+        this.pollingInterval = pollingInterval;
+        this.scheduler = scheduler;
+        this.ownScheduler = ownScheduler;
+    }
+
+    /**
+     * @param blockNumber Number of the block to wait for
+     * @return Future of the last finalized block number, completed once it reaches the given block
+     */
+    public CompletableFuture<BigInteger> waitForFinalization(BigInteger blockNumber) {
+        BigInteger last = finalized;
+        if (last.compareTo(blockNumber) >= 0) {
+            return CompletableFuture.completedFuture(last);
+        }
+        CompletableFuture<BigInteger> shared = waiting.computeIfAbsent(blockNumber, ignored -> new CompletableFuture<>());
+        start();
+
+        // Callers may cancel their own future without affecting other waiters of the same block
+        return shared.thenApply(number -> number);
+    }
+
+    /**
+     * @return Number of the last finalized block seen by the tracker, -1 before the first poll
+     */
+    public BigInteger getFinalizedBlock() {
+        return finalized;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (task != null) {
+                task.cancel(false);
+                task = null;
+            }
+        }
+        if (ownScheduler) {
+            scheduler.shutdown();
+        }
+        waiting.values().forEach(future -> future.completeExceptionally(
+                new CancellationException("Finalized block tracker was closed")));
+        waiting.clear();
+    }
+
+    private synchronized void start() {
+        if (task == null) {
+            task = scheduler.scheduleWithFixedDelay(this::poll, 0, pollingInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized boolean stopIfIdle() {
+        if (waiting.isEmpty() && task != null) {
+            task.cancel(false);
+            task = null;
+            return true;
+        }
+
+        return false;
+    }
+
+    private void poll() {
+        if (stopIfIdle()) {
+            return;
+        }
+
+        try {
+            EthBlock block = zkSync.ethGetBlockByNumber(ZkBlockParameterName.FINALIZED, false).send();
+            if (block.hasError() || block.getBlock() == null) {
+                return;
+            }
+            BigInteger number = block.getBlock().getNumber();
+            if (number.compareTo(finalized) > 0) {
+                finalized = number;
+            }
+
+            NavigableMap<BigInteger, CompletableFuture<BigInteger>> reached = waiting.headMap(number, true);
+            for (Map.Entry<BigInteger, CompletableFuture<BigInteger>> entry = reached.pollFirstEntry(); entry != null;
+                 entry = reached.pollFirstEntry()) {
+                entry.getValue().complete(number);
+            }
+        } catch (Exception ignored) {
+            // Next poll retries
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.zksync.transaction.response;
+
+/**
+ * Stage of the transaction sent by the streaming API of {@link io.zksync.ZkSyncWallet}.
+ */
+public enum TransactionStatus {
+    /**
+     * Transaction is estimated and signed, not yet sent to the node
+     */
+    SIGNED,
+    /**
+     * Node accepted the transaction
+     */
+    SUBMITTED,
+    /**
+     * Transaction is included into a block, receipt is available
+     */
+    INCLUDED,
+    /**
+     * Block of the transaction is finalized on L1
+     */
+    FINALIZED,
+    /**
+     * Transaction failed on any of the stages, no further events follow
+     */
+    FAILED
+}
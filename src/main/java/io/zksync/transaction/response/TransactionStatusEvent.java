@@ -0,0 +1,69 @@
+package io.zksync.transaction.response;
+
+import io.zksync.methods.request.Transaction;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+/**
+ * Status change of one of the transactions sent by the streaming API of {@link io.zksync.ZkSyncWallet}.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransactionStatusEvent {
+
+    /**
+     * Position of the transaction in the source stream
+     */
+    private final long index;
+    private final Transaction transaction;
+    private final TransactionStatus status;
+    /**
+     * Encoded signed transaction, set from {@link TransactionStatus#SIGNED}
+     */
+    @Nullable
+    private final String signedTransaction;
+    /**
+     * Hash of the transaction, set from {@link TransactionStatus#SUBMITTED}
+     */
+    @Nullable
+    private final String transactionHash;
+    /**
+     * Receipt of the transaction, set from {@link TransactionStatus#INCLUDED}
+     */
+    @Nullable
+    private final TransactionReceipt receipt;
+    /**
+     * Cause of {@link TransactionStatus#FAILED}
+     */
+    @Nullable
+    private final Throwable error;
+
+    public static TransactionStatusEvent signed(long index, Transaction transaction, String signedTransaction) {
+        return new TransactionStatusEvent(index, transaction, TransactionStatus.SIGNED, signedTransaction, null, null, null);
+    }
+
+    public TransactionStatusEvent submitted(String transactionHash) {
+        return new TransactionStatusEvent(index, transaction, TransactionStatus.SUBMITTED, signedTransaction, transactionHash, null, null);
+    }
+
+    public TransactionStatusEvent included(TransactionReceipt receipt) {
+        return new TransactionStatusEvent(index, transaction, TransactionStatus.INCLUDED, signedTransaction, transactionHash, receipt, null);
+    }
+
+    public TransactionStatusEvent finalized() {
+        return new TransactionStatusEvent(index, transaction, TransactionStatus.FINALIZED, signedTransaction, transactionHash, receipt, null);
+    }
+
+    public static TransactionStatusEvent failed(long index, Transaction transaction, @Nullable TransactionStatusEvent last, Throwable error) {
+        return last == null
+                ? new TransactionStatusEvent(index, transaction, TransactionStatus.FAILED, null, null, null, error)
+                : new TransactionStatusEvent(index, transaction, TransactionStatus.FAILED, last.signedTransaction, last.transactionHash, last.receipt, error);
+    }
+
+    public boolean isTerminal() {
+        return status == TransactionStatus.FAILED || status == TransactionStatus.FINALIZED;
+    }
+}
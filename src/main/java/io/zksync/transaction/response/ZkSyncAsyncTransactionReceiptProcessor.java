@@ -0,0 +1,142 @@
+package io.zksync.transaction.response;
+
+import io.zksync.protocol.ZkSync;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.tx.response.TransactionReceiptProcessor;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static io.zksync.protocol.JsonRpc2_0ZkSync.DEFAULT_BLOCK_COMMIT_TIME;
+import static io.zksync.transaction.manager.ZkSyncTransactionManager.DEFAULT_POLLING_ATTEMPTS_PER_TX_HASH;
+import static io.zksync.transaction.manager.ZkSyncTransactionManager.DEFAULT_POLLING_FREQUENCY;
+
+/**
+ * Receipt processor polling the receipt with exponential backoff. Retries are scheduled on
+ * a {@link ScheduledExecutorService} and receipt requests are sent asynchronously,
+ * so no thread is blocked while the transaction is pending.
+ */
+public class ZkSyncAsyncTransactionReceiptProcessor extends TransactionReceiptProcessor implements AsyncTransactionReceiptProcessor {
+
+    public static final long DEFAULT_INITIAL_DELAY = DEFAULT_BLOCK_COMMIT_TIME;
+    public static final long DEFAULT_MAX_DELAY = DEFAULT_BLOCK_COMMIT_TIME * 4L;
+    public static final double DEFAULT_MULTIPLIER = 1.5;
+    public static final double DEFAULT_JITTER = 0.2;
+    public static final long DEFAULT_TIMEOUT = DEFAULT_POLLING_FREQUENCY * DEFAULT_POLLING_ATTEMPTS_PER_TX_HASH;
+
+    private static final class SharedScheduler {
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "zksync-receipt-processor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private final ZkSync zkSync;
+    private final ScheduledExecutorService scheduler;
+
+    protected final long initialDelay;
+    protected final long maxDelay;
+    protected final double multiplier;
+    protected final double jitter;
+    protected final long timeout;
+
+    public ZkSyncAsyncTransactionReceiptProcessor(ZkSync zkSync) {
+        this(zkSync, SharedScheduler.INSTANCE);
+    }
+
+    public ZkSyncAsyncTransactionReceiptProcessor(ZkSync zkSync, ScheduledExecutorService scheduler) {
+        this(zkSync, scheduler, DEFAULT_INITIAL_DELAY, DEFAULT_MAX_DELAY, DEFAULT_MULTIPLIER, DEFAULT_JITTER, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * @param zkSync ZkSync client
+     * @param scheduler Scheduler of the receipt requests
+     * @param initialDelay Delay before the first retry in milliseconds
+     * @param maxDelay Upper bound of the delay between retries in milliseconds
+     * @param multiplier Factor the delay grows with after each retry
+     * @param jitter Fraction of the delay randomly added or subtracted, spreads requests of transactions sent together
+     * @param timeout Time in milliseconds after that the transaction is considered lost
+     */
+    public ZkSyncAsyncTransactionReceiptProcessor(ZkSync zkSync, ScheduledExecutorService scheduler,
+                                                  long initialDelay, long maxDelay, double multiplier, double jitter, long timeout) {
+        super(zkSync);
+        if (initialDelay <= 0 || maxDelay < initialDelay || multiplier < 1 || jitter < 0 || jitter >= 1) {
+            throw new IllegalArgumentException("Invalid backoff parameters");
+        }
+        this.zkSync = zkSync;
+        this.scheduler = scheduler;
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public CompletableFuture<TransactionReceipt> waitForTransactionReceiptAsync(String transactionHash) {
+        CompletableFuture<TransactionReceipt> result = new CompletableFuture<>();
+        poll(transactionHash, result, System.currentTimeMillis() + timeout, initialDelay);
+
+        return result;
+    }
+
+    @Override
+    public TransactionReceipt waitForTransactionReceipt(String transactionHash) throws IOException, TransactionException {
+        try {
+            return waitForTransactionReceiptAsync(transactionHash).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TransactionException) {
+                throw (TransactionException) e.getCause();
+            } else if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new TransactionException(e.getCause());
+        }
+    }
+
+    private void poll(String transactionHash, CompletableFuture<TransactionReceipt> result, long deadline, long delay) {
+        zkSync.ethGetTransactionReceipt(transactionHash).sendAsync().whenComplete((response, error) -> {
+            if (error == null && response.hasError()) {
+                result.completeExceptionally(new TransactionException(
+                        "Error processing request: " + response.getError().getMessage()));
+                return;
+            }
+            if (error == null && response.getTransactionReceipt().isPresent()
+                    && response.getTransactionReceipt().get().getBlockHash() != null) {
+                result.complete(response.getTransactionReceipt().get());
+                return;
+            }
+
+            long now = System.currentTimeMillis();
+            if (now >= deadline) {
+                result.completeExceptionally(new TransactionException(
+                        "Transaction receipt was not generated after "
+                                + (timeout / 1000
+                                + " seconds for transaction: "
+                                + transactionHash),
+                        transactionHash));
+                return;
+            }
+
+            // Transport errors are retried like a missing receipt until the deadline
+            long next = Math.min(deadline - now, nextDelay(delay));
+            scheduler.schedule(() -> poll(transactionHash, result, deadline, (long) Math.min(maxDelay, delay * multiplier)),
+                    next, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private long nextDelay(long delay) {
+        double spread = jitter == 0 ? 0 : ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Math.max(1, (long) (delay * (1 + spread)));
+    }
+}
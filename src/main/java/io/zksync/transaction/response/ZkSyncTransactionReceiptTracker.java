@@ -0,0 +1,302 @@
+package io.zksync.transaction.response;
+
+import io.zksync.protocol.ZkSync;
+import io.zksync.protocol.batch.BatchEntry;
+import io.zksync.protocol.batch.ZkSyncBatchRequest;
+import io.zksync.protocol.batch.ZkSyncBatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.tx.response.TransactionReceiptProcessor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Receipt processor shared by all pending transactions. Instead of polling every transaction hash
+ * it polls the latest block number once per interval, scans the new blocks in one batch and requests
+ * receipts only for the pending transactions included there, so polling cost scales with blocks
+ * rather than with pending transactions.
+ *
+ * <p>Polling is stopped while there are no pending transactions.
+ */
+public class ZkSyncTransactionReceiptTracker extends TransactionReceiptProcessor implements AsyncTransactionReceiptProcessor, Closeable {
+
+    /**
+     * Maximum amount of blocks scanned in a single poll, the rest are scanned by the next polls
+     */
+    public static final int MAX_BLOCKS_PER_POLL = 100;
+
+    private final ZkSync zkSync;
+    private final long pollingInterval;
+    private final int attempts;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownScheduler;
+
+    private final Map<String, Tracked> pending = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> fresh = new ConcurrentLinkedQueue<>();
+    private BigInteger lastBlock;
+    private ScheduledFuture<?> task;
+
+    /**
+     * @param zkSync ZkSync client
+     * @param pollingInterval Interval between the block number polls in milliseconds
+     * @param attempts Amount of polls the transaction can stay pending before its future fails
+     */
+    public ZkSyncTransactionReceiptTracker(ZkSync zkSync, long pollingInterval, int attempts) {
+        this(zkSync, pollingInterval, attempts, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "zksync-receipt-tracker");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * @param zkSync ZkSync client
+     * @param pollingInterval Interval between the block number polls in milliseconds
+     * @param attempts Amount of polls the transaction can stay pending before its future fails
+     * @param scheduler Scheduler of the polls, it is not shut down on {@link #close()}
+     */
+    public ZkSyncTransactionReceiptTracker(ZkSync zkSync, long pollingInterval, int attempts, ScheduledExecutorService scheduler) {
+        this(zkSync, pollingInterval, attempts, scheduler, false);
+    }
+
+    private ZkSyncTransactionReceiptTracker(ZkSync zkSync, long pollingInterval, int attempts,
+                                            ScheduledExecutorService scheduler, boolean ownScheduler) {
+        super(zkSync);
+        this.zkSync = zkSync;
+        this.pollingInterval = pollingInterval;
+        this.attempts = attempts;
+        this.scheduler = scheduler;
+        this.ownScheduler = ownScheduler;
+    }
+
+    /**
+     * Start tracking the transaction.
+     *
+     * @param transactionHash Hash of the sent transaction
+     * @return Future completed when the transaction is included into a block
+     */
+    public CompletableFuture<TransactionReceipt> track(String transactionHash) {
+        String key = transactionHash.toLowerCase();
+        Tracked tracked = pending.computeIfAbsent(key, ignored -> {
+            fresh.add(key);
+            return new Tracked(transactionHash, System.currentTimeMillis() + pollingInterval * attempts);
+        });
+        start();
+
+        return tracked.future;
+    }
+
+    @Override
+    public CompletableFuture<TransactionReceipt> waitForTransactionReceiptAsync(String transactionHash) {
+        return track(transactionHash);
+    }
+
+    @Override
+    public TransactionReceipt waitForTransactionReceipt(String transactionHash) throws IOException, TransactionException {
+        try {
+            return track(transactionHash).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TransactionException) {
+                throw (TransactionException) e.getCause();
+            } else if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new TransactionException(e.getCause());
+        }
+    }
+
+    /**
+     * @return Amount of transactions waiting for inclusion
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (task != null) {
+                task.cancel(false);
+                task = null;
+            }
+        }
+        if (ownScheduler) {
+            scheduler.shutdown();
+        }
+        pending.values().forEach(tracked -> tracked.future.completeExceptionally(
+                new TransactionException("Receipt tracker was closed before transaction was included", tracked.hash)));
+        pending.clear();
+    }
+
+    private synchronized void start() {
+        if (task == null) {
+            task = scheduler.scheduleWithFixedDelay(this::poll, 0, pollingInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized boolean stopIfIdle() {
+        if (pending.isEmpty() && task != null) {
+            task.cancel(false);
+            task = null;
+            lastBlock = null;
+            return true;
+        }
+
+        return false;
+    }
+
+    private void poll() {
+        if (stopIfIdle()) {
+            return;
+        }
+
+        try {
+            EthBlockNumber blockNumber = zkSync.ethBlockNumber().send();
+            if (blockNumber.hasError()) {
+                return;
+            }
+            BigInteger head = blockNumber.getBlockNumber();
+
+            Set<String> included = new HashSet<>();
+            if (lastBlock != null && head.compareTo(lastBlock) > 0) {
+                BigInteger to = head.min(lastBlock.add(BigInteger.valueOf(MAX_BLOCKS_PER_POLL)));
+                lastBlock = scanBlocks(lastBlock.add(BigInteger.ONE), to, included);
+            } else if (lastBlock == null) {
+                lastBlock = head;
+            }
+
+            // Transactions registered since the last poll may have been included into already scanned blocks
+            Set<String> candidates = new HashSet<>(included);
+            for (String hash = fresh.poll(); hash != null; hash = fresh.poll()) {
+                candidates.add(hash);
+            }
+
+            try {
+                fetchReceipts(candidates, included);
+            } catch (IOException | RuntimeException e) {
+                // Scanned blocks aren't scanned again, so candidates are requested again by the next poll
+                candidates.forEach(this::retry);
+                throw e;
+            }
+        } catch (Exception ignored) {
+            // Next poll retries, pending transactions expire by their deadline
+        } finally {
+            expire();
+        }
+    }
+
+    private BigInteger scanBlocks(BigInteger from, BigInteger to, Set<String> candidates) throws IOException {
+        ZkSyncBatchRequest batch = zkSync.newZkSyncBatch();
+        List<BatchEntry<EthBlock>> blocks = new ArrayList<>();
+        for (BigInteger number = from; number.compareTo(to) <= 0; number = number.add(BigInteger.ONE)) {
+            blocks.add(batch.add(zkSync.ethGetBlockByNumber(DefaultBlockParameter.valueOf(number), false)));
+        }
+
+        ZkSyncBatchResponse response = batch.send();
+        BigInteger scanned = from.subtract(BigInteger.ONE);
+        for (BatchEntry<EthBlock> entry : blocks) {
+            EthBlock block = response.get(entry);
+            if (block.hasError() || block.getBlock() == null) {
+                // Rescan starting from the block node failed to return
+                break;
+            }
+            for (EthBlock.TransactionResult<?> transaction : block.getBlock().getTransactions()) {
+                String hash = String.valueOf(transaction.get()).toLowerCase();
+                if (pending.containsKey(hash)) {
+                    candidates.add(hash);
+                }
+            }
+            scanned = scanned.add(BigInteger.ONE);
+        }
+
+        return scanned;
+    }
+
+    private void fetchReceipts(Set<String> candidates, Set<String> included) throws IOException {
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        ZkSyncBatchRequest batch = zkSync.newZkSyncBatch();
+        List<String> hashes = new ArrayList<>(candidates);
+        List<BatchEntry<EthGetTransactionReceipt>> receipts = new ArrayList<>(hashes.size());
+        for (String hash : hashes) {
+            receipts.add(batch.add(zkSync.ethGetTransactionReceipt(hash)));
+        }
+
+        ZkSyncBatchResponse response = batch.send();
+        for (int i = 0; i < hashes.size(); i++) {
+            String hash = hashes.get(i);
+            EthGetTransactionReceipt receipt = response.get(receipts.get(i));
+            if (receipt.hasError()) {
+                retry(hash);
+                continue;
+            }
+            Optional<TransactionReceipt> result = receipt.getTransactionReceipt();
+            if (result.isPresent() && result.get().getBlockHash() != null) {
+                Tracked tracked = pending.remove(hash);
+                if (tracked != null) {
+                    tracked.future.complete(result.get());
+                }
+            } else if (included.contains(hash)) {
+                // Node listed the transaction in a block but doesn't serve its receipt yet
+                retry(hash);
+            }
+        }
+    }
+
+    private void retry(String hash) {
+        if (pending.containsKey(hash)) {
+            fresh.add(hash);
+        }
+    }
+
+    private void expire() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Tracked> entry : pending.entrySet()) {
+            Tracked tracked = entry.getValue();
+            if (tracked.deadline <= now && pending.remove(entry.getKey(), tracked)) {
+                tracked.future.completeExceptionally(new TransactionException(
+                        "Transaction receipt was not generated after "
+                                + ((pollingInterval * attempts) / 1000
+                                + " seconds for transaction: "
+                                + tracked.hash),
+                        tracked.hash));
+            }
+        }
+    }
+
+    private static class Tracked {
+        private final String hash;
+        private final long deadline;
+        private final CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+
+        Tracked(String hash, long deadline) {
+            this.hash = hash;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.zksync.transaction.scheduler;
+
+/**
+ * Concurrency limit adjusted by additive increase / multiplicative decrease.
+ *
+ * <p>The limit grows by one per window of successful transactions and shrinks on error or when
+ * the latency exceeds the lowest observed one by the tolerance. The lowest latency slowly drifts
+ * towards the observed values, so the limit recovers when the node gets permanently slower.
+ * Decrease happens at most once per lowest latency, so a burst of failures of one window backs off once.
+ */
+class AdaptiveLimit {
+
+    private static final double ERROR_RATE_WEIGHT = 0.05;
+    private static final int BASELINE_DRIFT = 100;
+
+    private final int min;
+    private final int max;
+    private final double tolerance;
+    private final double backoff;
+
+    private double limit;
+    private long minLatency = Long.MAX_VALUE;
+    private long lastDecrease;
+    private boolean decreased;
+    private double errorRate;
+
+    AdaptiveLimit(int min, int initial, int max, double tolerance, double backoff) {
+        if (min <= 0 || initial < min || max < initial || tolerance < 1 || backoff <= 0 || backoff >= 1) {
+            throw new IllegalArgumentException("Invalid concurrency limit settings");
+        }
+        this.min = min;
+        this.max = max;
+        this.tolerance = tolerance;
+        this.backoff = backoff;
+        this.limit = initial;
+    }
+
+    synchronized void onSample(long latency, boolean error, long now) {
+        errorRate += ((error ? 1 : 0) - errorRate) * ERROR_RATE_WEIGHT;
+
+        if (!error) {
+            if (latency < minLatency) {
+                minLatency = latency;
+            } else {
+                minLatency += (latency - minLatency) / BASELINE_DRIFT;
+            }
+        }
+
+        boolean congested = error || latency > minLatency * tolerance;
+        if (!congested) {
+            limit = Math.min(max, limit + 1 / limit);
+        } else if (!decreased || minLatency == Long.MAX_VALUE || now - lastDecrease >= minLatency) {
+            limit = Math.max(min, limit * backoff);
+            lastDecrease = now;
+            decreased = true;
+        }
+    }
+
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized double getErrorRate() {
+        return errorRate;
+    }
+}
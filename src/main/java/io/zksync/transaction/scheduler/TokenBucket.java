@@ -0,0 +1,39 @@
+package io.zksync.transaction.scheduler;
+
+/**
+ * Rate limiter refilled with the time passed since the last acquire. Not thread-safe, guarded by the scheduler.
+ */
+class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+
+    private double tokens;
+    private long updatedAt;
+
+    TokenBucket(double perSecond, int burst, long now) {
+        if (perSecond < 0 || burst <= 0) {
+            throw new IllegalArgumentException("Invalid rate limit settings");
+        }
+        this.tokensPerNano = perSecond / 1e9;
+        this.capacity = burst;
+        this.tokens = burst;
+        this.updatedAt = now;
+    }
+
+    /**
+     * @return 0 if the token was taken, otherwise nanoseconds until the next token
+     */
+    long tryAcquire(long now) {
+        if (tokensPerNano == 0) {
+            return 0;
+        }
+        tokens = Math.min(capacity, tokens + (now - updatedAt) * tokensPerNano);
+        updatedAt = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+    }
+}
@@ -0,0 +1,323 @@
+package io.zksync.transaction.scheduler;
+
+import io.zksync.crypto.signer.EthSigner;
+import org.web3j.protocol.core.RemoteCall;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Scheduler of transaction submissions limiting the load put on the node.
+ *
+ * <p>Transactions wait in a bounded queue and are dispatched while all of the following hold:
+ * <ul>
+ *   <li>the signer has less than {@link TransactionSchedulerConfig#getMaxInFlightPerSigner()} transactions in flight</li>
+ *   <li>the total amount in flight is below the adaptive concurrency limit</li>
+ *   <li>the rate limiter has a token</li>
+ * </ul>
+ * Transaction is in flight until its future completes. The concurrency limit is lowered on errors and on latency
+ * growth of the send step, and raised back while sends complete fast. Signers with waiting transactions are served
+ * round-robin.
+ *
+ * <p>The send step reflects the node load only when it ends once the node accepts the transaction, so submit the
+ * send and the wait for the receipt as separate steps with {@link #submit(String, Supplier, Function)}. For single step
+ * submissions, e.g. calls returned by {@link io.zksync.ZkSyncWallet}, the whole call including the wait for the
+ * receipt is sampled, so the limit follows the block time as well.
+ *
+ * <pre>{@code
+ * TransactionScheduler scheduler = new TransactionScheduler(TransactionSchedulerConfig.builder()
+ *         .maxInFlightPerSigner(16)
+ *         .maxTransactionsPerSecond(50)
+ *         .build());
+ * CompletableFuture<TransactionReceipt> receipt = scheduler.submit(wallet.getSigner().getAddress(),
+ *         () -> wallet.estimateAndSend(transaction, null),
+ *         sent -> wallet.waitForTransactionReceipt(sent.getTransactionHash()));
+ * }</pre>
+ */
+public class TransactionScheduler implements Closeable {
+
+    private final int queueCapacity;
+    private final int maxInFlightPerSigner;
+    private final TokenBucket rateLimiter;
+    private final AdaptiveLimit concurrency;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownScheduler;
+
+    private final Map<String, Lane> lanes = new HashMap<>();
+    private final ArrayDeque<Lane> ready = new ArrayDeque<>();
+    private int queued;
+    private int inFlight;
+    private ScheduledFuture<?> wakeup;
+    private boolean closed;
+
+    public TransactionScheduler(TransactionSchedulerConfig config) {
+        this(config, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "zksync-transaction-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * @param config Limits of the scheduler
+     * @param scheduler Scheduler of the dispatches delayed by the rate limit, it is not shut down on {@link #close()}
+     */
+    public TransactionScheduler(TransactionSchedulerConfig config, ScheduledExecutorService scheduler) {
+        this(config, scheduler, false);
+    }
+
+    private TransactionScheduler(TransactionSchedulerConfig config, ScheduledExecutorService scheduler, boolean ownScheduler) {
+        if (config.getQueueCapacity() <= 0 || config.getMaxInFlightPerSigner() <= 0) {
+            throw new IllegalArgumentException("Queue capacity and in-flight limit must be positive");
+        }
+        this.queueCapacity = config.getQueueCapacity();
+        this.maxInFlightPerSigner = config.getMaxInFlightPerSigner();
+        this.rateLimiter = new TokenBucket(config.getMaxTransactionsPerSecond(), config.getBurst(), System.nanoTime());
+        this.concurrency = new AdaptiveLimit(config.getMinConcurrency(), config.getInitialConcurrency(),
+                config.getMaxConcurrency(), config.getLatencyTolerance(), config.getBackoffRatio());
+        this.scheduler = scheduler;
+        this.ownScheduler = ownScheduler;
+    }
+
+    /**
+     * Queue the call sent from the signer account.
+     *
+     * @param signer Signer of the transaction
+     * @param call Not yet sent call, e.g. {@link io.zksync.ZkSyncWallet#transfer(String, java.math.BigInteger)}
+     * @return Future of the call result, failed with {@link RejectedExecutionException} when the queue is full
+     */
+    public <T> CompletableFuture<T> submit(EthSigner signer, RemoteCall<T> call) {
+        return submit(signer.getAddress(), call::sendAsync);
+    }
+
+    /**
+     * Queue the transaction sent from the address, the whole send is sampled by the concurrency limit.
+     *
+     * @param signerAddress Address the transaction is sent from
+     * @param send Function sending the transaction, invoked once on dispatch
+     * @return Future of the send result, failed with {@link RejectedExecutionException} when the queue is full
+     */
+    public <T> CompletableFuture<T> submit(String signerAddress, Supplier<? extends CompletableFuture<T>> send) {
+        return submit(signerAddress, send, CompletableFuture::completedFuture);
+    }
+
+    /**
+     * Queue the transaction sent from the address. Only the send step is sampled by the concurrency limit,
+     * the transaction stays in flight until the await step completes.
+     *
+     * @param signerAddress Address the transaction is sent from
+     * @param send Function sending the transaction, invoked once on dispatch, e.g. {@code eth_sendRawTransaction}
+     * @param await Function waiting for the result of the sent transaction, e.g. its receipt
+     * @return Future of the await result, failed with {@link RejectedExecutionException} when the queue is full
+     */
+    public <S, T> CompletableFuture<T> submit(String signerAddress, Supplier<? extends CompletableFuture<S>> send,
+                                              Function<? super S, ? extends CompletableFuture<T>> await) {
+        Task<S, T> task = new Task<>(send, await);
+        synchronized (this) {
+            if (closed) {
+                task.result.completeExceptionally(new RejectedExecutionException("Scheduler is closed"));
+                return task.result;
+            }
+            if (queued >= queueCapacity) {
+                task.result.completeExceptionally(new RejectedExecutionException("Transaction queue is full"));
+                return task.result;
+            }
+            Lane lane = lanes.computeIfAbsent(signerAddress.toLowerCase(), Lane::new);
+            lane.tasks.add(task);
+            queued++;
+            markReady(lane);
+        }
+        dispatch();
+        return task.result;
+    }
+
+    public synchronized int getQueuedCount() {
+        return queued;
+    }
+
+    public synchronized int getInFlightCount() {
+        return inFlight;
+    }
+
+    /**
+     * @param signerAddress Address the transactions are sent from
+     * @return Amount of transactions of the signer in flight
+     */
+    public synchronized int getInFlightCount(String signerAddress) {
+        Lane lane = lanes.get(signerAddress.toLowerCase());
+        return lane == null ? 0 : lane.inFlight;
+    }
+
+    /**
+     * @return Current adaptive limit of transactions in flight of all signers
+     */
+    public int getConcurrencyLimit() {
+        return concurrency.getLimit();
+    }
+
+    /**
+     * @return Exponentially weighted share of failed transactions
+     */
+    public double getErrorRate() {
+        return concurrency.getErrorRate();
+    }
+
+    /**
+     * Reject all waiting transactions, transactions in flight are not affected.
+     */
+    @Override
+    public void close() {
+        List<Task<?, ?>> rejected = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            for (Lane lane : lanes.values()) {
+                rejected.addAll(lane.tasks);
+                lane.tasks.clear();
+            }
+            ready.clear();
+            queued = 0;
+            if (wakeup != null) {
+                wakeup.cancel(false);
+            }
+        }
+        for (Task<?, ?> task : rejected) {
+            task.result.completeExceptionally(new RejectedExecutionException("Scheduler is closed"));
+        }
+        if (ownScheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void dispatch() {
+        // Loop instead of recursion when sends complete immediately, e.g. fail on the caller thread
+        boolean completed = true;
+        while (completed) {
+            completed = false;
+            for (Task<?, ?> task : take()) {
+                completed |= start(task);
+            }
+        }
+    }
+
+    private synchronized List<Task<?, ?>> take() {
+        List<Task<?, ?>> started = new ArrayList<>();
+        int limit = concurrency.getLimit();
+        while (!ready.isEmpty() && inFlight < limit) {
+            long wait = rateLimiter.tryAcquire(System.nanoTime());
+            if (wait > 0) {
+                scheduleWakeup(wait);
+                break;
+            }
+            Lane lane = ready.poll();
+            Task<?, ?> task = lane.tasks.poll();
+            task.lane = lane;
+            lane.inFlight++;
+            lane.ready = false;
+            inFlight++;
+            queued--;
+            markReady(lane);
+            started.add(task);
+        }
+        return started;
+    }
+
+    /**
+     * @return true if the task completed before returning, then the caller dispatches the next tasks
+     */
+    private <S, T> boolean start(Task<S, T> task) {
+        long startedAt = System.nanoTime();
+        CompletableFuture<S> sent;
+        try {
+            sent = task.send.get();
+        } catch (RuntimeException e) {
+            sent = new CompletableFuture<>();
+            sent.completeExceptionally(e);
+        }
+        CompletableFuture<T> result = sent
+                .whenComplete((value, error) -> {
+                    long now = System.nanoTime();
+                    concurrency.onSample(now - startedAt, error != null, now);
+                })
+                .thenCompose(task.await);
+
+        boolean completed = result.isDone();
+        result.whenComplete((value, error) -> {
+            release(task.lane);
+            if (error != null) {
+                task.result.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            } else {
+                task.result.complete(value);
+            }
+            if (!completed) {
+                dispatch();
+            }
+        });
+        return completed;
+    }
+
+    private synchronized void release(Lane lane) {
+        lane.inFlight--;
+        inFlight--;
+        markReady(lane);
+        if (lane.inFlight == 0 && lane.tasks.isEmpty()) {
+            lanes.remove(lane.address);
+        }
+    }
+
+    private void markReady(Lane lane) {
+        if (!lane.ready && !lane.tasks.isEmpty() && lane.inFlight < maxInFlightPerSigner) {
+            lane.ready = true;
+            ready.add(lane);
+        }
+    }
+
+    private void scheduleWakeup(long delayNanos) {
+        if (closed || (wakeup != null && !wakeup.isDone())) {
+            return;
+        }
+        wakeup = scheduler.schedule(this::wake, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void wake() {
+        synchronized (this) {
+            wakeup = null;
+        }
+        dispatch();
+    }
+
+    private static class Lane {
+        private final String address;
+        private final ArrayDeque<Task<?, ?>> tasks = new ArrayDeque<>();
+        private int inFlight;
+        private boolean ready;
+
+        Lane(String address) {
+            this.address = address;
+        }
+    }
+
+    private static class Task<S, T> {
+        private final Supplier<? extends CompletableFuture<S>> send;
+        private final Function<? super S, ? extends CompletableFuture<T>> await;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private Lane lane;
+
+        Task(Supplier<? extends CompletableFuture<S>> send, Function<? super S, ? extends CompletableFuture<T>> await) {
+            this.send = send;
+            this.await = await;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.zksync.transaction.scheduler;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Limits of the {@link TransactionScheduler}.
+ */
+@Getter
+@Builder
+public class TransactionSchedulerConfig {
+
+    /**
+     * Maximum amount of waiting transactions, submissions over it are rejected
+     */
+    @Builder.Default
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum amount of not confirmed transactions of one signer
+     */
+    @Builder.Default
+    private int maxInFlightPerSigner = 32;
+
+    /**
+     * Rate of dispatched transactions, zero disables rate limiting
+     */
+    @Builder.Default
+    private double maxTransactionsPerSecond = 0;
+
+    /**
+     * Amount of transactions that can be dispatched at once above the rate
+     */
+    @Builder.Default
+    private int burst = 1;
+
+    /**
+     * Bounds and starting value of the adaptive limit of transactions in flight of all signers
+     */
+    @Builder.Default
+    private int minConcurrency = 1;
+    @Builder.Default
+    private int initialConcurrency = 16;
+    @Builder.Default
+    private int maxConcurrency = 256;
+
+    /**
+     * Ratio of the observed latency to the lowest latency treated as congestion
+     */
+    @Builder.Default
+    private double latencyTolerance = 2.0;
+
+    /**
+     * Ratio the limit is multiplied by on congestion or error
+     */
+    @Builder.Default
+    private double backoffRatio = 0.7;
+
+    public static TransactionSchedulerConfig defaults() {
+        return builder().build();
+    }
+}
@@ -1,5 +1,6 @@
 package io.zksync.transaction.type;
 
+import io.zksync.crypto.eip712.StructHasher;
 import io.zksync.crypto.eip712.Structurable;
 import io.zksync.methods.request.Eip712Meta;
 import io.zksync.utils.ContractDeployer;
@@ -160,6 +161,11 @@ public class Transaction712 extends Transaction1559 implements Structurable {
         return TRANSACTION_TYPE;
     }
 
+    @Override
+    public boolean hasStaticType() {
+        return true;
+    }
+
     @Override
     public List<Pair<String, Type<?>>> eip712types() {
         List<Pair<String, Type<?>>> result = new ArrayList<>(13);
@@ -181,6 +187,35 @@ public class Transaction712 extends Transaction1559 implements Structurable {
         return result;
     }
 
+    @Override
+    public byte[] hashStruct() {
+        byte[][] factoryDeps = getFactoryDeps();
+        byte[][] factoryDepsHashes = null;
+        if (factoryDeps != null) {
+            factoryDepsHashes = new byte[factoryDeps.length][];
+            for (int i = 0; i < factoryDeps.length; i++) {
+                factoryDepsHashes[i] = ContractDeployer.hashBytecode(factoryDeps[i]);
+            }
+        }
+
+        // Same members and order as in eip712types()
+        return StructHasher.start(this)
+                .putUint(EIP_712_TX_TYPE)
+                .putHexUint(getFrom())
+                .putHexUint(getTo())
+                .putUint(getGasLimit())
+                .putUint(getErgsPerPubdata())
+                .putUint(getMaxFeePerGas())
+                .putUint(getMaxPriorityFeePerGas())
+                .putHexUint(getPaymaster())
+                .putUint(getNonce())
+                .putUint(getValue())
+                .putHexBytesHash(getData())
+                .putWordsHash(factoryDepsHashes)
+                .putBytesHash(getPaymasterInput())
+                .hash();
+    }
+
     private DynamicArray<Bytes32> getFactoryDepsHashes() {
         if (getFactoryDeps() != null) {
             return new DynamicArray<>(Bytes32.class, Arrays.stream(getFactoryDeps())
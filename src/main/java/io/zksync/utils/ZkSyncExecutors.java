@@ -0,0 +1,120 @@
+package io.zksync.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors of the SDK asynchronous work. The default executor is used by {@link io.zksync.ZkSyncWallet}
+ * and by the default asynchronous methods of {@link io.zksync.transaction.fee.ZkTransactionFeeProvider}
+ * when no executor is given, and it is {@link ForkJoinPool#commonPool()} unless changed.
+ *
+ * <p>Most of that work blocks on network calls, {@link #useBlockingExecutor()} switches the SDK to
+ * a virtual thread per task on JDK 21+ or to a bounded thread pool on older JDKs, so blocking doesn't
+ * starve the common pool. Requests of the client can be routed to the same executor with
+ * {@link io.zksync.protocol.ExecutorWeb3jService}.
+ *
+ * <pre>{@code
+ * Executor executor = ZkSyncExecutors.useBlockingExecutor();
+ * ZkSync zksync = ZkSync.build(new ExecutorWeb3jService(new HttpService(url), executor));
+ * }</pre>
+ */
+public final class ZkSyncExecutors {
+
+    /**
+     * Maximum amount of threads of the fallback pool
+     */
+    public static final int DEFAULT_MAX_THREADS = Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+
+    private static final Method VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+    private static volatile Executor defaultExecutor = ForkJoinPool.commonPool();
+
+    private ZkSyncExecutors() {
+    }
+
+    /**
+     * @return Executor used by the SDK when no executor is given
+     */
+    public static Executor getDefault() {
+        return defaultExecutor;
+    }
+
+    /**
+     * @param executor Executor used by the SDK when no executor is given, already created objects keep their executor
+     */
+    public static void setDefault(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must not be null");
+        }
+        defaultExecutor = executor;
+    }
+
+    /**
+     * Make {@link #newBlockingExecutor()} the default executor of the SDK.
+     *
+     * @return New default executor
+     */
+    public static ExecutorService useBlockingExecutor() {
+        ExecutorService executor = newBlockingExecutor();
+        setDefault(executor);
+        return executor;
+    }
+
+    /**
+     * @return true if the running JDK supports virtual threads
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Create executor suited for blocking tasks, starting a virtual thread per task when supported,
+     * otherwise {@link #newBoundedExecutor(int)} with {@link #DEFAULT_MAX_THREADS}.
+     *
+     * @return New executor
+     */
+    public static ExecutorService newBlockingExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException ignored) {
+                // Fall back to platform threads
+            }
+        }
+
+        return newBoundedExecutor(DEFAULT_MAX_THREADS);
+    }
+
+    /**
+     * Create pool of daemon threads, tasks over the thread limit wait in the queue.
+     * Idle threads are stopped after a minute.
+     *
+     * @param maxThreads Maximum amount of threads
+     * @return New executor
+     */
+    public static ExecutorService newBoundedExecutor(int maxThreads) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "zksync-blocking-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static Method findVirtualThreadExecutor() {
+        try {
+            return java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.zksync.wrappers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.web3j.tx.Contract;
+import org.web3j.tx.TransactionManager;
+import org.web3j.utils.Numeric;
+
+/**
+ * Thread-safe cache of contract wrapper instances keyed by (contract address, transaction manager).
+ *
+ * <p>Wrappers hold no per-call state, so the same instance can serve any number of concurrent calls.
+ * The transaction manager is compared by identity. When the cache is full it is cleared.
+ *
+ * @param <T> Type of the contract wrapper
+ */
+public class ContractCache<T extends Contract> {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final BiFunction<String, TransactionManager, T> loader;
+    private final int capacity;
+    private final Map<Key, T> contracts = new ConcurrentHashMap<>();
+
+    /**
+     * @param loader Function creating the wrapper for the contract address and transaction manager
+     */
+    public ContractCache(BiFunction<String, TransactionManager, T> loader) {
+        this(loader, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param loader Function creating the wrapper for the contract address and transaction manager
+     * @param capacity Maximum amount of cached wrappers
+     */
+    public ContractCache(BiFunction<String, TransactionManager, T> loader, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.loader = loader;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Get cached wrapper or create a new one.
+     *
+     * @param address Address of the contract
+     * @param transactionManager Transaction manager used by the wrapper
+     * @return Contract wrapper
+     */
+    public T get(String address, TransactionManager transactionManager) {
+        Key key = new Key(Numeric.prependHexPrefix(address).toLowerCase(), transactionManager);
+        T contract = contracts.get(key);
+        if (contract != null) {
+            return contract;
+        }
+        if (contracts.size() >= capacity) {
+            contracts.clear();
+        }
+        return contracts.computeIfAbsent(key, k -> loader.apply(address, transactionManager));
+    }
+
+    public int size() {
+        return contracts.size();
+    }
+
+    public void clear() {
+        contracts.clear();
+    }
+
+    private static final class Key {
+        private final String address;
+        private final TransactionManager transactionManager;
+
+        private Key(String address, TransactionManager transactionManager) {
+            this.address = address;
+            this.transactionManager = transactionManager;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return transactionManager == other.transactionManager && address.equals(other.address);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * address.hashCode() + System.identityHashCode(transactionManager);
+        }
+    }
+}
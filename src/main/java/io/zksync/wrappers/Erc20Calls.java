@@ -0,0 +1,83 @@
+package io.zksync.wrappers;
+
+import io.zksync.abi.CallTemplate;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.Utils;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.abi.datatypes.generated.Uint8;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.RemoteCall;
+import org.web3j.tx.TransactionManager;
+import org.web3j.tx.exceptions.ContractCallException;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Precompiled {@link CallTemplate}s of the ERC20 functions and reads built on them.
+ *
+ * <p>Reads encode calldata with the templates and decode the result with shared output type references,
+ * so unlike the generated {@link ERC20} wrapper they don't build a {@link org.web3j.abi.datatypes.Function} per call.
+ */
+public final class Erc20Calls {
+
+    public static final CallTemplate TRANSFER = CallTemplate.of("transfer(address,uint256)");
+    public static final CallTemplate TRANSFER_FROM = CallTemplate.of("transferFrom(address,address,uint256)");
+    public static final CallTemplate APPROVE = CallTemplate.of("approve(address,uint256)");
+    public static final CallTemplate NAME = CallTemplate.of("name()");
+    public static final CallTemplate SYMBOL = CallTemplate.of("symbol()");
+    public static final CallTemplate DECIMALS = CallTemplate.of("decimals()");
+    public static final CallTemplate TOTAL_SUPPLY = CallTemplate.of("totalSupply()");
+    public static final CallTemplate BALANCE_OF = CallTemplate.of("balanceOf(address)");
+    public static final CallTemplate ALLOWANCE = CallTemplate.of("allowance(address,address)");
+
+    private static final List<TypeReference<?>> STRING_OUTPUT = Collections.singletonList(new TypeReference<Utf8String>() {});
+    private static final List<TypeReference<?>> UINT256_OUTPUT = Collections.singletonList(new TypeReference<Uint256>() {});
+    private static final List<TypeReference<?>> UINT8_OUTPUT = Collections.singletonList(new TypeReference<Uint8>() {});
+
+    private Erc20Calls() {
+    }
+
+    public static RemoteCall<String> name(TransactionManager transactionManager, String token, DefaultBlockParameter at) {
+        return call(transactionManager, token, NAME.encodeToHex(), STRING_OUTPUT, at);
+    }
+
+    public static RemoteCall<String> symbol(TransactionManager transactionManager, String token, DefaultBlockParameter at) {
+        return call(transactionManager, token, SYMBOL.encodeToHex(), STRING_OUTPUT, at);
+    }
+
+    public static RemoteCall<BigInteger> decimals(TransactionManager transactionManager, String token, DefaultBlockParameter at) {
+        return call(transactionManager, token, DECIMALS.encodeToHex(), UINT8_OUTPUT, at);
+    }
+
+    public static RemoteCall<BigInteger> totalSupply(TransactionManager transactionManager, String token, DefaultBlockParameter at) {
+        return call(transactionManager, token, TOTAL_SUPPLY.encodeToHex(), UINT256_OUTPUT, at);
+    }
+
+    public static RemoteCall<BigInteger> balanceOf(TransactionManager transactionManager, String token, String owner,
+                                                   DefaultBlockParameter at) {
+        return call(transactionManager, token, BALANCE_OF.encodeToHex(owner), UINT256_OUTPUT, at);
+    }
+
+    public static RemoteCall<BigInteger> allowance(TransactionManager transactionManager, String token, String owner,
+                                                   String spender, DefaultBlockParameter at) {
+        return call(transactionManager, token, ALLOWANCE.encodeToHex(owner, spender), UINT256_OUTPUT, at);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> RemoteCall<R> call(TransactionManager transactionManager, String token, String calldata,
+                                          List<TypeReference<?>> output, DefaultBlockParameter at) {
+        return new RemoteCall<>(() -> {
+            String value = transactionManager.sendCall(token, calldata, at);
+            List<?> result = FunctionReturnDecoder.decode(value, Utils.convert(output));
+            if (result.isEmpty()) {
+                throw new ContractCallException("Empty value (0x) returned from contract");
+            }
+            return (R) ((Type<?>) result.get(0)).getValue();
+        });
+    }
+}
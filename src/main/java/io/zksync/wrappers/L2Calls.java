@@ -0,0 +1,23 @@
+package io.zksync.wrappers;
+
+import io.zksync.abi.CallTemplate;
+
+/**
+ * Precompiled {@link CallTemplate}s of the L2 system contract functions sent by the wallet,
+ * kept apart from the generated {@link IL2Bridge} and {@link IL2Messenger} wrappers.
+ */
+public final class L2Calls {
+
+    /**
+     * {@link IL2Bridge#FUNC_WITHDRAW} with the L1 receiver, the L2 token and the amount
+     */
+    public static final CallTemplate WITHDRAW = CallTemplate.of("withdraw(address,address,uint256)");
+
+    /**
+     * {@link IL2Messenger#FUNC_SENDTOL1} with the message
+     */
+    public static final CallTemplate SEND_TO_L1 = CallTemplate.of("sendToL1(bytes)");
+
+    private L2Calls() {
+    }
+}
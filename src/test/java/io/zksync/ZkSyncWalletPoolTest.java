@@ -0,0 +1,123 @@
+package io.zksync;
+
+import io.zksync.protocol.core.AsyncRemoteCall;
+import org.junit.jupiter.api.Test;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+public class ZkSyncWalletPoolTest {
+
+    private static final String RECIPIENT = "0x7e5f4552091a69125d5dfcb7b8c2659029395bdf";
+
+    private final List<CompletableFuture<TransactionReceipt>> sent = new ArrayList<>();
+
+    @Test
+    public void testRecipientHashKeepsLane() {
+        ZkSyncWallet first = wallet();
+        ZkSyncWallet second = wallet();
+        ZkSyncWalletPool pool = new ZkSyncWalletPool(Arrays.asList(first, second), 10, ZkSyncWalletPool.Routing.RECIPIENT_HASH);
+
+        for (int i = 0; i < 4; i++) {
+            pool.transfer(RECIPIENT, BigInteger.ONE, null);
+        }
+
+        int lane = pool.getPendingCount(0) == 4 ? 0 : 1;
+        assertEquals(4, pool.getPendingCount(lane));
+        assertEquals(0, pool.getPendingCount(1 - lane));
+        assertEquals(16, pool.getAvailableCapacity());
+    }
+
+    @Test
+    public void testLeastPendingSpreadsAndReleases() {
+        ZkSyncWallet first = wallet();
+        ZkSyncWallet second = wallet();
+        ZkSyncWalletPool pool = new ZkSyncWalletPool(Arrays.asList(first, second), 2, ZkSyncWalletPool.Routing.LEAST_PENDING);
+
+        List<CompletableFuture<TransactionReceipt>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(pool.transfer(RECIPIENT, BigInteger.ONE, null));
+        }
+
+        assertEquals(2, pool.getPendingCount(0));
+        assertEquals(2, pool.getPendingCount(1));
+        assertTrue(pool.isSaturated());
+
+        TransactionReceipt receipt = new TransactionReceipt();
+        sent.forEach(future -> future.complete(receipt));
+        assertSame(receipt, results.get(3).join());
+        assertEquals(0, pool.getPendingCount());
+        assertEquals(pool.getCapacity(), pool.getAvailableCapacity());
+    }
+
+    @Test
+    public void testFullLaneQueuesWithoutBlocking() {
+        ZkSyncWalletPool pool = new ZkSyncWalletPool(Collections.singletonList(wallet()), 1, ZkSyncWalletPool.Routing.RECIPIENT_HASH);
+
+        List<CompletableFuture<TransactionReceipt>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(pool.transfer(RECIPIENT, BigInteger.ONE, null));
+        }
+
+        assertEquals(1, sent.size());
+        assertEquals(3, pool.getPendingCount());
+        assertTrue(pool.isSaturated());
+
+        TransactionReceipt receipt = new TransactionReceipt();
+        sent.get(0).complete(receipt);
+        assertSame(receipt, results.get(0).join());
+        assertFalse(results.get(1).isDone());
+        assertEquals(2, sent.size());
+
+        sent.get(1).completeExceptionally(new IllegalStateException("Rejected"));
+        assertTrue(results.get(1).isCompletedExceptionally());
+        sent.get(2).complete(receipt);
+        assertSame(receipt, results.get(2).join());
+        assertEquals(0, pool.getPendingCount());
+        assertEquals(1, pool.getAvailableCapacity());
+    }
+
+    @Test
+    public void testExecuteSpreadsWithoutRoutingKey() {
+        ZkSyncWalletPool pool = new ZkSyncWalletPool(Arrays.asList(wallet(), wallet()), 10, ZkSyncWalletPool.Routing.RECIPIENT_HASH);
+        Function function = new Function("increment", Collections.emptyList(), Collections.emptyList());
+
+        for (int i = 0; i < 4; i++) {
+            pool.execute(RECIPIENT, function);
+        }
+        assertEquals(2, pool.getPendingCount(0));
+        assertEquals(2, pool.getPendingCount(1));
+
+        for (int i = 0; i < 2; i++) {
+            pool.execute(RECIPIENT, function, "user-1");
+        }
+        assertEquals(6, pool.getPendingCount());
+        assertTrue(pool.getPendingCount(0) == 4 || pool.getPendingCount(1) == 4);
+    }
+
+    private ZkSyncWallet wallet() {
+        ZkSyncWallet wallet = mock(ZkSyncWallet.class);
+        when(wallet.transfer(any(), any(), isNull(), isNull())).thenAnswer(invocation -> new AsyncRemoteCall<>(() -> {
+            CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+            sent.add(future);
+            return future;
+        }));
+        when(wallet.execute(any(), any(), isNull())).thenAnswer(invocation -> new AsyncRemoteCall<>(() -> {
+            CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+            sent.add(future);
+            return future;
+        }));
+        return wallet;
+    }
+}
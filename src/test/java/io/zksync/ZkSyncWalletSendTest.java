@@ -0,0 +1,187 @@
+package io.zksync;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.zksync.crypto.eip712.Eip712Domain;
+import io.zksync.crypto.signer.PrivateKeyEthSigner;
+import io.zksync.helper.BatchInterceptor;
+import io.zksync.methods.request.Transaction;
+import io.zksync.protocol.ZkSync;
+import io.zksync.protocol.exceptions.JsonRpcResponseException;
+import io.zksync.transaction.fee.ZkTransactionFeeProvider;
+import io.zksync.transaction.type.Transaction712;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.protocol.http.HttpService;
+import org.web3j.tx.response.TransactionReceiptProcessor;
+
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ZkSyncWalletSendTest {
+
+    private static final Credentials CREDENTIALS = Credentials.create(
+            "0x7726827caac94a7f9e1b160f7ea819f172f7b6f9d2a97f992c38edeab82d4110");
+    private static final String RECIPIENT = "0xe1fab3efd74a77c23b426c302d96372140ff7d0c";
+    private static final long CHAIN_ID = 270L;
+
+    private final AtomicInteger executed = new AtomicInteger();
+    private BatchInterceptor interceptor;
+    private ExecutorService pool;
+    private PrivateKeyEthSigner signer;
+    private CompletableFuture<Eip712Domain> domain;
+    private CompletableFuture<BigInteger> gasLimit;
+    private CompletableFuture<BigInteger> gasPrice;
+    private String nonceError;
+    private String sendError;
+    private ZkSyncWallet wallet;
+
+    @BeforeEach
+    public void setUp() {
+        interceptor = new BatchInterceptor(this::answer);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(interceptor).build();
+        ZkSync zksync = ZkSync.build(new HttpService(client));
+        pool = Executors.newCachedThreadPool();
+
+        signer = spy(new PrivateKeyEthSigner(CREDENTIALS, CHAIN_ID));
+        domain = new CompletableFuture<>();
+        doReturn(domain).when(signer).getDomain();
+
+        ZkTransactionFeeProvider feeProvider = mock(ZkTransactionFeeProvider.class);
+        gasLimit = new CompletableFuture<>();
+        gasPrice = new CompletableFuture<>();
+        when(feeProvider.getGasLimitAsync(any())).thenReturn(gasLimit);
+        when(feeProvider.getGasPriceAsync()).thenReturn(gasPrice);
+
+        wallet = new ZkSyncWallet(zksync, signer, mock(TransactionReceiptProcessor.class), feeProvider,
+                command -> {
+                    executed.incrementAndGet();
+                    pool.execute(command);
+                });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testJoinsEstimationBeforeSigning() throws Exception {
+        CompletableFuture<EthSendTransaction> sent = wallet.estimateAndSend(transfer(), null);
+
+        gasLimit.complete(BigInteger.valueOf(21000));
+        gasPrice.complete(BigInteger.TEN);
+        Thread.sleep(100);
+        assertFalse(sent.isDone());
+        verify(signer, never()).signTypedData(any(), any());
+
+        domain.complete(new PrivateKeyEthSigner(CREDENTIALS, CHAIN_ID).getDomain().join());
+        EthSendTransaction response = sent.get(5, TimeUnit.SECONDS);
+
+        Transaction712 signed = captureSigned();
+        assertEquals(BigInteger.valueOf(7), signed.getNonce());
+        assertEquals(BigInteger.valueOf(21000), signed.getGasLimit());
+        assertEquals(BigInteger.TEN, signed.getMaxFeePerGas());
+        assertEquals(CHAIN_ID, signed.getChainId());
+        assertEquals(RECIPIENT, signed.getTo());
+        assertEquals(Hash.sha3(lastRawTransaction()), response.getTransactionHash());
+        assertEquals(1, executed.get());
+    }
+
+    @Test
+    public void testGivenNonceSkipsLookup() throws Exception {
+        completeEstimation();
+
+        wallet.estimateAndSend(transfer(), BigInteger.valueOf(42)).get(5, TimeUnit.SECONDS);
+
+        assertEquals(BigInteger.valueOf(42), captureSigned().getNonce());
+        assertTrue(interceptor.getPayloads().stream()
+                .noneMatch(payload -> payload.get("method").asText().equals("eth_getTransactionCount")));
+    }
+
+    @Test
+    public void testSendErrorSurfacesAsJsonRpcResponseException() {
+        completeEstimation();
+        sendError = "nonce too low";
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> wallet.estimateAndSend(transfer(), null).get(5, TimeUnit.SECONDS));
+
+        assertTrue(error.getCause() instanceof JsonRpcResponseException);
+        assertTrue(error.getCause().getMessage().contains("nonce too low"));
+    }
+
+    @Test
+    public void testNonceErrorSurfacesAsJsonRpcResponseException() throws Exception {
+        completeEstimation();
+        nonceError = "unknown account";
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> wallet.estimateAndSend(transfer(), null).get(5, TimeUnit.SECONDS));
+
+        assertTrue(error.getCause() instanceof JsonRpcResponseException);
+        verify(signer, never()).signTypedData(any(), any());
+        assertEquals(0, executed.get());
+    }
+
+    private void completeEstimation() {
+        domain.complete(new PrivateKeyEthSigner(CREDENTIALS, CHAIN_ID).getDomain().join());
+        gasLimit.complete(BigInteger.valueOf(21000));
+        gasPrice.complete(BigInteger.TEN);
+    }
+
+    private Transaction712 captureSigned() {
+        ArgumentCaptor<Transaction712> captor = ArgumentCaptor.forClass(Transaction712.class);
+        verify(signer).signTypedData(any(), captor.capture());
+        return captor.getValue();
+    }
+
+    private String lastRawTransaction() {
+        return interceptor.getPayloads().stream()
+                .filter(payload -> payload.get("method").asText().equals("eth_sendRawTransaction"))
+                .reduce((first, second) -> second)
+                .map(payload -> payload.get("params").get(0).asText())
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    private static Transaction transfer() {
+        return Transaction.createFunctionCallTransaction(CREDENTIALS.getAddress(), RECIPIENT, BigInteger.ZERO, BigInteger.ZERO, "0x");
+    }
+
+    private boolean answer(JsonNode request, ObjectNode response) {
+        switch (request.get("method").asText()) {
+            case "eth_getTransactionCount":
+                if (nonceError != null) {
+                    response.putObject("error").put("code", -32000).put("message", nonceError);
+                } else {
+                    response.put("result", "0x7");
+                }
+                break;
+            case "eth_sendRawTransaction":
+                if (sendError != null) {
+                    response.putObject("error").put("code", -32000).put("message", sendError);
+                } else {
+                    response.put("result", Hash.sha3(request.get("params").get(0).asText()));
+                }
+                break;
+            default:
+                return false;
+        }
+        return true;
+    }
+}
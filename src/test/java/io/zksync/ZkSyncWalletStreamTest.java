@@ -0,0 +1,163 @@
+package io.zksync;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.reactivex.Flowable;
+import io.reactivex.subscribers.TestSubscriber;
+import io.zksync.crypto.signer.PrivateKeyEthSigner;
+import io.zksync.helper.BatchInterceptor;
+import io.zksync.methods.request.Transaction;
+import io.zksync.protocol.ZkSync;
+import io.zksync.transaction.fee.ZkTransactionFeeProvider;
+import io.zksync.transaction.manager.NonceManager;
+import io.zksync.transaction.response.FinalizedBlockTracker;
+import io.zksync.transaction.response.TransactionStatus;
+import io.zksync.transaction.response.TransactionStatusEvent;
+import io.zksync.transaction.response.ZkSyncAsyncTransactionReceiptProcessor;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.http.HttpService;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ZkSyncWalletStreamTest {
+
+    private static final Credentials CREDENTIALS = Credentials.create(
+            "0x7726827caac94a7f9e1b160f7ea819f172f7b6f9d2a97f992c38edeab82d4110");
+    private static final String RECIPIENT = "0xe1fab3efd74a77c23b426c302d96372140ff7d0c";
+    private static final String UNREACHABLE = "0x0000000000000000000000000000000000000bad";
+    private static final String BLOCK_HASH = "0x2222222222222222222222222222222222222222222222222222222222222222";
+
+    private ScheduledExecutorService scheduler;
+    private FinalizedBlockTracker finalization;
+    private ZkSyncWallet wallet;
+
+    @BeforeEach
+    public void setUp() {
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(new BatchInterceptor(this::answer)).build();
+        ZkSync zksync = ZkSync.build(new HttpService(client));
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        finalization = new FinalizedBlockTracker(zksync, 10, scheduler);
+
+        ZkTransactionFeeProvider feeProvider = mock(ZkTransactionFeeProvider.class);
+        when(feeProvider.getGasPriceAsync()).thenReturn(CompletableFuture.completedFuture(BigInteger.ONE));
+        when(feeProvider.getGasLimitAsync(any())).thenAnswer(invocation -> {
+            Transaction transaction = invocation.getArgument(0);
+            CompletableFuture<BigInteger> gas = new CompletableFuture<>();
+            if (UNREACHABLE.equals(transaction.getTo())) {
+                gas.completeExceptionally(new IOException("execution reverted"));
+            } else {
+                gas.complete(BigInteger.valueOf(21000));
+            }
+            return gas;
+        });
+
+        wallet = new ZkSyncWallet(zksync, new PrivateKeyEthSigner(CREDENTIALS, 270L),
+                new ZkSyncAsyncTransactionReceiptProcessor(zksync, scheduler, 10, 40, 2, 0.2, 1000),
+                feeProvider, Executors.newCachedThreadPool(), new NonceManager(zksync, CREDENTIALS.getAddress()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        finalization.close();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testStatusEvents() {
+        Flowable<Transaction> transactions = Flowable.just(transfer(RECIPIENT), transfer(UNREACHABLE), transfer(RECIPIENT));
+
+        List<TransactionStatusEvent> events = wallet.sendTransactions(transactions, 4, finalization)
+                .toList()
+                .blockingGet();
+
+        assertEquals(9, events.size());
+        assertEquals(statuses(TransactionStatus.SIGNED, TransactionStatus.SUBMITTED, TransactionStatus.INCLUDED, TransactionStatus.FINALIZED),
+                statusesOf(events, 0));
+        assertEquals(statuses(TransactionStatus.FAILED), statusesOf(events, 1));
+        assertEquals(statuses(TransactionStatus.SIGNED, TransactionStatus.SUBMITTED, TransactionStatus.INCLUDED, TransactionStatus.FINALIZED),
+                statusesOf(events, 2));
+
+        TransactionStatusEvent finalized = events.stream()
+                .filter(event -> event.getIndex() == 0 && event.getStatus() == TransactionStatus.FINALIZED)
+                .findFirst().get();
+        assertEquals(Hash.sha3(finalized.getSignedTransaction()), finalized.getTransactionHash());
+        assertEquals(BLOCK_HASH, finalized.getReceipt().getBlockHash());
+        assertTrue(events.stream().filter(event -> event.getIndex() == 1).findFirst().get().getError() instanceof IOException);
+    }
+
+    @Test
+    public void testSendingFollowsDemand() throws Exception {
+        AtomicInteger pulled = new AtomicInteger();
+        Flowable<Transaction> transactions = Flowable.range(0, 10)
+                .map(ignored -> transfer(RECIPIENT))
+                .doOnNext(ignored -> pulled.incrementAndGet());
+
+        TestSubscriber<TransactionStatusEvent> subscriber = wallet.sendTransactions(transactions, 2, null).test(0);
+        Thread.sleep(300);
+        assertEquals(2, pulled.get());
+
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.awaitDone(10, TimeUnit.SECONDS);
+        subscriber.assertComplete();
+        assertEquals(10, pulled.get());
+        assertEquals(30, subscriber.valueCount());
+    }
+
+    private static Transaction transfer(String to) {
+        return Transaction.createFunctionCallTransaction(CREDENTIALS.getAddress(), to, BigInteger.ZERO, BigInteger.ZERO, "0x");
+    }
+
+    private static List<TransactionStatus> statuses(TransactionStatus... statuses) {
+        return Arrays.asList(statuses);
+    }
+
+    private static List<TransactionStatus> statusesOf(List<TransactionStatusEvent> events, long index) {
+        return events.stream()
+                .filter(event -> event.getIndex() == index)
+                .map(TransactionStatusEvent::getStatus)
+                .collect(Collectors.toList());
+    }
+
+    private boolean answer(JsonNode request, ObjectNode response) {
+        switch (request.get("method").asText()) {
+            case "eth_getTransactionCount":
+                response.put("result", "0x0");
+                break;
+            case "eth_sendRawTransaction":
+                response.put("result", Hash.sha3(request.get("params").get(0).asText()));
+                break;
+            case "eth_getTransactionReceipt":
+                response.putObject("result")
+                        .put("transactionHash", request.get("params").get(0).asText())
+                        .put("blockHash", BLOCK_HASH)
+                        .put("blockNumber", "0xb")
+                        .put("gasUsed", "0x5208");
+                break;
+            case "eth_getBlockByNumber":
+                response.putObject("result").put("number", "0xc");
+                break;
+            default:
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,91 @@
+package io.zksync.abi;
+
+import io.zksync.wrappers.ERC20;
+import io.zksync.wrappers.Erc20Calls;
+import io.zksync.wrappers.IL2Bridge;
+import io.zksync.wrappers.IL2Messenger;
+import io.zksync.wrappers.L2Calls;
+import org.junit.jupiter.api.Test;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CallTemplateTest {
+
+    private static final String TO = "0x7e5f4552091a69125d5dfcb7b8c2659029395bdf";
+    private static final String TOKEN = "0x3e7676937A7E96CFB7616f255b9AD9FF47363D4b";
+    private static final BigInteger MAX_UINT256 = BigInteger.valueOf(2).pow(256).subtract(BigInteger.ONE);
+
+    @Test
+    public void testEncodeTransfer() {
+        for (BigInteger amount : Arrays.asList(BigInteger.ZERO, BigInteger.valueOf(1000), BigInteger.valueOf(Long.MAX_VALUE),
+                BigInteger.TEN.pow(30), MAX_UINT256)) {
+            assertEquals(FunctionEncoder.encode(ERC20.encodeTransfer(TO, amount)),
+                    Erc20Calls.TRANSFER.encodeToHex(TO, amount));
+        }
+    }
+
+    @Test
+    public void testEncodeWithdraw() {
+        Function function = new Function(IL2Bridge.FUNC_WITHDRAW,
+                Arrays.asList(new Address(TO), new Address(TOKEN), new Uint256(BigInteger.TEN.pow(18))),
+                Collections.emptyList());
+
+        assertEquals(FunctionEncoder.encode(function),
+                L2Calls.WITHDRAW.encodeToHex(TO, TOKEN, BigInteger.TEN.pow(18)));
+    }
+
+    @Test
+    public void testEncodeDynamicBytes() {
+        for (int length : new int[] {0, 1, 32, 33, 100}) {
+            byte[] message = new byte[length];
+            Arrays.fill(message, (byte) 0xab);
+
+            assertEquals(FunctionEncoder.encode(IL2Messenger.encodeSendToL1(message)),
+                    L2Calls.SEND_TO_L1.encodeToHex((Object) message));
+        }
+    }
+
+    @Test
+    public void testEncodeMixedParameters() {
+        byte[] hash = Numeric.hexStringToByteArray("0x" + String.join("", Collections.nCopies(32, "12")));
+        byte[] data = Numeric.hexStringToByteArray("0xdeadbeef");
+        Function function = new Function("call",
+                Arrays.asList(new DynamicBytes(data), new Bool(true), new Bytes32(hash), new DynamicBytes(hash),
+                        new Address(TO)),
+                Collections.emptyList());
+
+        assertEquals(FunctionEncoder.encode(function),
+                CallTemplate.of("call(bytes,bool,bytes32,bytes,address)").encodeToHex(data, true, hash, hash, TO));
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> CallTemplate.of("transfer(address,uint128)"));
+        assertThrows(IllegalArgumentException.class, () -> CallTemplate.of("transfer"));
+        assertThrows(IllegalArgumentException.class, () -> Erc20Calls.TRANSFER.encode(TO));
+        assertThrows(IllegalArgumentException.class, () -> Erc20Calls.TRANSFER.encode("0x1234", BigInteger.ONE));
+        assertThrows(IllegalArgumentException.class, () -> Erc20Calls.TRANSFER.encode(TO, BigInteger.ONE.negate()));
+        assertThrows(IllegalArgumentException.class, () -> Erc20Calls.TRANSFER.encode(TO, MAX_UINT256.add(BigInteger.ONE)));
+        assertThrows(IllegalArgumentException.class, () -> Erc20Calls.TRANSFER.encode(BigInteger.ONE, TO));
+    }
+
+    @Test
+    public void testSelector() {
+        assertEquals("0xa9059cbb", Erc20Calls.TRANSFER.getSelector());
+        assertEquals(2, Erc20Calls.TRANSFER.getParameterCount());
+        assertEquals("0x", CallTemplate.of("ping()").encodeToHex().substring(0, 2));
+        assertEquals(4, CallTemplate.of("ping()").encode().length);
+    }
+}
@@ -0,0 +1,78 @@
+package io.zksync.abi;
+
+import io.zksync.methods.request.Eip712Meta;
+import io.zksync.methods.request.PaymasterParams;
+import io.zksync.transaction.type.Transaction712;
+import org.junit.jupiter.api.Test;
+import org.web3j.crypto.Sign;
+import org.web3j.rlp.RlpEncoder;
+import org.web3j.rlp.RlpList;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Transaction712RlpEncoderTest {
+
+    private static final String FROM = "0x7e5f4552091a69125d5dfcb7b8c2659029395bdf";
+    private static final String TO = "0x000000000000000000000000000000000000800a";
+    private static final Sign.SignatureData SIGNATURE = TransactionEncoder.getSignatureData(
+            "0x" + repeat("ab", 32) + repeat("0c", 32) + "1b");
+
+    @Test
+    public void testEncodeMatchesRlpValues() {
+        assertEncoding(transaction(BigInteger.ZERO, BigInteger.ZERO, TO, "0x", new Eip712Meta(BigInteger.ZERO, null, null, null)), SIGNATURE);
+        assertEncoding(transaction(BigInteger.valueOf(0x7f), BigInteger.valueOf(0x80), TO, "0x0",
+                new Eip712Meta(BigInteger.valueOf(160000L), null, null, null)), SIGNATURE);
+        assertEncoding(transaction(BigInteger.ONE.shiftLeft(255), BigInteger.valueOf(Long.MAX_VALUE), null, "0x" + repeat("a9", 100),
+                new Eip712Meta(BigInteger.ONE, new byte[] {}, null, null)), null);
+    }
+
+    @Test
+    public void testEncodeFactoryDepsAndPaymaster() {
+        byte[] bytecode = new byte[300];
+        Arrays.fill(bytecode, (byte) 0xfe);
+        Eip712Meta meta = new Eip712Meta(BigInteger.valueOf(160000L), null, new byte[][] {bytecode, new byte[] {0x01}},
+                new PaymasterParams(TO, Numeric.hexStringToByteArray("0x8c5a3445" + repeat("00", 60))));
+
+        assertEncoding(transaction(BigInteger.TEN, BigInteger.ZERO, TO, "0x" + repeat("12", 70), meta), SIGNATURE);
+    }
+
+    @Test
+    public void testEncodeIntoReusedBuffer() {
+        Transaction712 transaction = transaction(BigInteger.ONE, BigInteger.ONE, TO, "0x", new Eip712Meta(BigInteger.ZERO, null, null, null));
+        byte[] expected = Transaction712RlpEncoder.encode(transaction, SIGNATURE);
+        byte[] buffer = new byte[1024];
+
+        int written = Transaction712RlpEncoder.encode(transaction, SIGNATURE, buffer, 10);
+
+        assertEquals(expected.length, written);
+        assertEquals(expected.length, Transaction712RlpEncoder.encodedLength(transaction, SIGNATURE));
+        assertArrayEquals(expected, Arrays.copyOfRange(buffer, 10, 10 + written));
+        assertThrows(IllegalArgumentException.class, () -> Transaction712RlpEncoder.encode(transaction, SIGNATURE, new byte[10], 0));
+    }
+
+    private static void assertEncoding(Transaction712 transaction, Sign.SignatureData signature) {
+        byte[] rlp = RlpEncoder.encode(new RlpList(transaction.asRlpValues(signature)));
+        byte[] expected = ByteBuffer.allocate(rlp.length + 1).put(Transaction712.EIP_712_TX_TYPE).put(rlp).array();
+
+        assertEquals(Numeric.toHexString(expected), Numeric.toHexString(TransactionEncoder.encode(transaction, signature)));
+        assertEquals(expected.length, Transaction712RlpEncoder.encodedLength(transaction, signature));
+    }
+
+    private static Transaction712 transaction(BigInteger value, BigInteger nonce, String to, String data, Eip712Meta meta) {
+        return new Transaction712(270L, nonce, BigInteger.valueOf(300000L), to, value, data,
+                BigInteger.valueOf(100000000L), BigInteger.valueOf(250000000L), FROM, meta);
+    }
+
+    private static String repeat(String value, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+}
@@ -2,9 +2,15 @@ package io.zksync.crypto.eip712;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.math.BigInteger;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import io.zksync.methods.request.Eip712Meta;
+import io.zksync.transaction.type.Transaction712;
 import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.crypto.Hash;
 import org.web3j.abi.datatypes.generated.Uint128;
 import org.web3j.utils.Numeric;
 
@@ -129,6 +135,30 @@ public class Eip712EncoderTest {
         }
     }
 
+    @Test
+    public void testDomainSeparatorFollowsDomainFields() {
+        Eip712Domain mutable = new Eip712Domain("Ether Mail", "1", ZkSyncNetwork.Mainnet, "0xCcCCccccCCCCcCCCCCCcCcCccCcCCCcCcccccccC");
+
+        assertEquals("0xf2cee375fa42b42143804025fc449deafd50cc031ca257e0b194a650a912090f",
+                Numeric.toHexString(Eip712Encoder.domainSeparator(mutable)));
+
+        mutable.setVersion(new Utf8String("2"));
+        assertArrayEquals(Eip712Encoder.encodeValue(mutable.intoEip712Struct()).getValue(), Eip712Encoder.domainSeparator(mutable));
+    }
+
+    @Test
+    public void testStaticTypeHashIsCached() {
+        Transaction712 transaction = new Transaction712(270L, BigInteger.ONE, BigInteger.TEN, null, null, "0x",
+                BigInteger.ONE, BigInteger.ONE, "0x7e5f4552091a69125d5dfcb7b8c2659029395bdf",
+                new Eip712Meta(BigInteger.ZERO, null, null, null));
+        byte[] expected = Hash.sha3(Eip712Encoder.encodeType(transaction.intoEip712Struct()).getBytes());
+
+        byte[] first = Eip712Encoder.typeHash(transaction.intoEip712Struct());
+        first[0] ^= 1;
+
+        assertArrayEquals(expected, Eip712Encoder.typeHash(transaction.intoEip712Struct()));
+    }
+
 //    @Test
 //    public void testEncodeTransfer() {
 //        Transfer zkTransfer = new Transfer(
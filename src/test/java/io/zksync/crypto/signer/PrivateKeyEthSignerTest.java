@@ -1,12 +1,27 @@
 package io.zksync.crypto.signer;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.web3j.crypto.Credentials;
 import org.web3j.crypto.Hash;
+import org.web3j.crypto.Sign;
 import org.web3j.tx.ChainIdLong;
+import org.web3j.utils.Numeric;
 
 import io.zksync.protocol.core.ZkSyncNetwork;
 import io.zksync.crypto.eip712.Eip712Domain;
@@ -53,4 +68,73 @@ public class PrivateKeyEthSignerTest {
         assertTrue(verified);
     }
 
+    @Test
+    public void testSignTypedDataBulk() {
+        List<Mail> messages = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            messages.add(new Mail(message.from, message.to, "Hello, Bob! #" + i));
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        PrivateKeyEthSigner signer = new PrivateKeyEthSigner(credentials, domain, pool);
+
+        BulkSignResult result = signer.signTypedDataBulk(domain, messages).join();
+
+        assertEquals(messages.size(), result.getCount());
+        for (int i = 0; i < messages.size(); i++) {
+            assertEquals(key.signTypedData(domain, messages.get(i)).join(), result.getSignatures().get(i));
+        }
+        assertTrue(result.getThroughput() > 0);
+        pool.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSignTypedDataBulkDefault() {
+        EthSigner signer = mock(EthSigner.class);
+        when(signer.signTypedData(any(), any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(((Mail) invocation.getArgument(1)).contents.getValue()));
+        when(signer.signTypedDataBulk(any(), any())).thenCallRealMethod();
+
+        BulkSignResult result = signer.signTypedDataBulk(domain,
+                Arrays.asList(new Mail(message.from, message.to, "a"), new Mail(message.from, message.to, "b"))).join();
+
+        assertEquals(Arrays.asList("a", "b"), result.getSignatures());
+    }
+
+    @Test
+    public void testFastSigningMatchesDefault() {
+        PrivateKeyEthSigner fast = new PrivateKeyEthSigner(credentials, domain, ForkJoinPool.commonPool(), true);
+
+        assertEquals(key.signTypedData(domain, message).join(), fast.signTypedData(domain, message).join());
+        for (int i = 0; i < 200; i++) {
+            byte[] data = Hash.sha3(new byte[] {(byte) i, (byte) (i >> 8)});
+            assertEquals(key.signMessage(data, false).join(), fast.signMessage(data, false).join());
+            assertEquals(key.signMessage(data).join(), fast.signMessage(data).join());
+        }
+        for (int length : new int[] {1, 20}) {
+            byte[] data = new byte[length];
+            Arrays.fill(data, (byte) 0xf1);
+            assertEquals(key.signMessage(data, false).join(), fast.signMessage(data, false).join());
+        }
+    }
+
+    @Test
+    public void testFastSigningTruncatesLongInput() {
+        PrivateKeyEthSigner fast = new PrivateKeyEthSigner(credentials, domain, ForkJoinPool.commonPool(), true);
+        ECDSASigner verifier = new ECDSASigner();
+        verifier.init(false, new ECPublicKeyParameters(
+                Sign.publicPointFromPrivate(credentials.getEcKeyPair().getPrivateKey()),
+                new ECDomainParameters(Sign.CURVE_PARAMS.getCurve(), Sign.CURVE_PARAMS.getG(), Sign.CURVE_PARAMS.getN())));
+
+        for (int length : new int[] {33, 40, 64, 100}) {
+            byte[] data = new byte[length];
+            Arrays.fill(data, (byte) 0xf1);
+            byte[] signature = Numeric.hexStringToByteArray(fast.signMessage(data, false).join());
+
+            assertTrue(verifier.verifySignature(data,
+                    new BigInteger(1, Arrays.copyOfRange(signature, 0, 32)),
+                    new BigInteger(1, Arrays.copyOfRange(signature, 32, 64))));
+        }
+    }
+
 }
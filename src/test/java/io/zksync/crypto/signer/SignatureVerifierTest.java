@@ -0,0 +1,104 @@
+package io.zksync.crypto.signer;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.Sign;
+import org.web3j.tx.ChainIdLong;
+import org.web3j.utils.Numeric;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SignatureVerifierTest {
+
+    private static final Credentials CREDENTIALS = Credentials.create(Hash.sha3String("cow"));
+    private static final PrivateKeyEthSigner SIGNER = new PrivateKeyEthSigner(CREDENTIALS, ChainIdLong.MAINNET);
+
+    @Test
+    public void testVerifyBatchAndCacheReplays() {
+        List<Pair<byte[], String>> items = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            byte[] hash = Hash.sha3(new byte[] {(byte) i});
+            items.add(Pair.of(hash, SIGNER.signMessage(hash, false).join()));
+        }
+        // Signature of the other hash recovers some other address
+        items.add(Pair.of(Hash.sha3(new byte[] {1, 2, 3}), items.get(0).getRight()));
+
+        SignatureVerifier verifier = new SignatureVerifier(1000, new ForkJoinPool(4));
+        List<Boolean> result = verifier.verifyBatch(items, CREDENTIALS.getAddress()).join();
+
+        for (int i = 0; i < 150; i++) {
+            assertTrue(result.get(i));
+        }
+        assertFalse(result.get(150));
+        assertEquals(0, verifier.getHitCount());
+
+        assertEquals(CREDENTIALS.getAddress(), verifier.recover(items.get(7).getLeft(), items.get(7).getRight()));
+        assertEquals(1, verifier.getHitCount());
+        assertEquals(151, verifier.getMissCount());
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        SignatureVerifier verifier = new SignatureVerifier(1, ForkJoinPool.commonPool());
+        byte[] first = Hash.sha3(new byte[] {1});
+        byte[] second = Hash.sha3(new byte[] {2});
+        String firstSignature = SIGNER.signMessage(first, false).join();
+        String secondSignature = SIGNER.signMessage(second, false).join();
+
+        assertTrue(verifier.verify(first, firstSignature, CREDENTIALS.getAddress()));
+        assertTrue(verifier.verify(second, secondSignature, CREDENTIALS.getAddress()));
+        assertTrue(verifier.verify(first, firstSignature, CREDENTIALS.getAddress()));
+
+        assertEquals(0, verifier.getHitCount());
+        assertThrows(IllegalArgumentException.class, () -> verifier.recover(first, "0x1234"));
+    }
+
+    @Test
+    public void testMalformedSignaturesAreNotRecovered() {
+        SignatureVerifier verifier = new SignatureVerifier(0, new ForkJoinPool(2));
+        byte[] hash = Hash.sha3(new byte[] {42});
+        byte[] valid = Numeric.hexStringToByteArray(SIGNER.signMessage(hash, false).join());
+        byte[] n = Numeric.toBytesPadded(Sign.CURVE_PARAMS.getN(), 32);
+
+        List<String> malformed = Arrays.asList(
+                withV(valid, 5),
+                withV(valid, 0xff),
+                withRange(valid, 0, new byte[32]),
+                withRange(valid, 32, new byte[32]),
+                withRange(valid, 32, n));
+        for (String signature : malformed) {
+            assertNull(verifier.recover(hash, signature));
+            assertFalse(verifier.verify(hash, signature, CREDENTIALS.getAddress()));
+        }
+
+        List<Pair<byte[], String>> items = new ArrayList<>();
+        items.add(Pair.of(hash, Numeric.toHexString(valid)));
+        for (String signature : malformed) {
+            items.add(Pair.of(hash, signature));
+        }
+        items.add(Pair.of(hash, "0x1234"));
+        items.add(Pair.of(hash, withV(valid, valid[64] - 27)));
+
+        List<Boolean> result = verifier.verifyBatch(items, CREDENTIALS.getAddress()).join();
+        assertEquals(Arrays.asList(true, false, false, false, false, false, false, true), result);
+    }
+
+    private static String withV(byte[] signature, int v) {
+        byte[] copy = signature.clone();
+        copy[64] = (byte) v;
+        return Numeric.toHexString(copy);
+    }
+
+    private static String withRange(byte[] signature, int offset, byte[] value) {
+        byte[] copy = signature.clone();
+        System.arraycopy(value, 0, copy, offset, 32);
+        return Numeric.toHexString(copy);
+    }
+}
@@ -0,0 +1,48 @@
+package io.zksync.crypto.signer;
+
+import io.zksync.crypto.eip712.Eip712Domain;
+import org.junit.jupiter.api.Test;
+import org.web3j.tx.ChainIdLong;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SignerPoolTest {
+
+    private static final String MNEMONIC = "stuff slice staff easily soup parent arm payment cotton trade scatter struggle";
+
+    @Test
+    public void testDerivedAccountsMatchFullPath() {
+        SignerPool pool = new SignerPool(MNEMONIC, ChainIdLong.MAINNET, 3);
+
+        List<PrivateKeyEthSigner> signers = pool.preload().join();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(PrivateKeyEthSigner.fromMnemonic(MNEMONIC, i, ChainIdLong.MAINNET).getAddress(), signers.get(i).getAddress());
+            assertSame(signers.get(i), pool.getSigner(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> pool.getSigner(3));
+    }
+
+    @Test
+    public void testLeastLoadedSelection() {
+        SignerPool pool = new SignerPool(MNEMONIC, Eip712Domain.defaultDomain(ChainIdLong.MAINNET), 2,
+                SignerPool.Strategy.LEAST_LOADED, ForkJoinPool.commonPool(), false);
+
+        SignerPool.Lease first = pool.acquire();
+        SignerPool.Lease second = pool.acquire();
+        assertNotEquals(first.getAccountIndex(), second.getAccountIndex());
+
+        second.close();
+        second.close();
+        assertEquals(0, pool.getLoad(second.getAccountIndex()));
+        for (int i = 0; i < 3; i++) {
+            try (SignerPool.Lease lease = pool.acquire()) {
+                assertEquals(second.getAccountIndex(), lease.getAccountIndex());
+            }
+        }
+        first.close();
+    }
+}
@@ -0,0 +1,75 @@
+package io.zksync.helper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.web3j.protocol.http.HttpService.JSON_MEDIA_TYPE;
+
+/**
+ * Answers single and batch JSON-RPC requests, batch elements are answered in reverse order.
+ * Answer function fills the response for the given request and returns false to skip the answer.
+ */
+public class BatchInterceptor implements Interceptor {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BiFunction<JsonNode, ObjectNode, Boolean> answer;
+    private final List<JsonNode> payloads = Collections.synchronizedList(new ArrayList<>());
+
+    public BatchInterceptor(BiFunction<JsonNode, ObjectNode, Boolean> answer) {
+        this.answer = answer;
+    }
+
+    public List<JsonNode> getPayloads() {
+        return payloads;
+    }
+
+    @Override
+    public okhttp3.Response intercept(Chain chain) throws IOException {
+        Buffer buffer = new Buffer();
+        chain.request().body().writeTo(buffer);
+        JsonNode payload = objectMapper.readTree(buffer.readUtf8());
+        payloads.add(payload);
+
+        final JsonNode result;
+        if (payload.isArray()) {
+            ArrayNode responses = objectMapper.createArrayNode();
+            for (int i = payload.size() - 1; i >= 0; i--) {
+                ObjectNode response = respond(payload.get(i));
+                if (response != null) {
+                    responses.add(response);
+                }
+            }
+            result = responses;
+        } else {
+            result = respond(payload);
+        }
+
+        return new okhttp3.Response.Builder()
+                .body(ResponseBody.create(objectMapper.writeValueAsString(result), JSON_MEDIA_TYPE))
+                .request(chain.request())
+                .protocol(Protocol.HTTP_2)
+                .code(200)
+                .message("")
+                .build();
+    }
+
+    private ObjectNode respond(JsonNode request) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("jsonrpc", "2.0");
+        response.set("id", request.get("id"));
+
+        return answer.apply(request, response) ? response : null;
+    }
+}
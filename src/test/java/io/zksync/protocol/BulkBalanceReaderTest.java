@@ -0,0 +1,161 @@
+package io.zksync.protocol;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.zksync.helper.BatchInterceptor;
+import io.zksync.protocol.core.Token;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.Test;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.DynamicStruct;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.http.HttpService;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkBalanceReaderTest {
+
+    private static final String MULTICALL = "0xca11bde05977b3631167028862be2a173976ca11";
+    private static final String BROKEN_TOKEN = "0x00000000000000000000000000000000000000bb";
+    private static final List<String> ADDRESSES = Arrays.asList(
+            "0x7e5f4552091a69125d5dfcb7b8c2659029395bdf",
+            "0x2b5ad5c4795c026514f8317c7a215e218dccd6cf",
+            "0x6813eb9362372eef6200f3b1dbc3f819671cba69");
+    private static final List<Token> TOKENS = Arrays.asList(
+            Token.ETH,
+            new Token("0x5c221e77624690fff6dd741493d735a17716c26b", "0x3e7676937a7e96cfb7616f255b9ad9ff47363d4b", "DAI", 18),
+            new Token("0xd35cceead182dcee0f148ebac9447da2c4d449c4", BROKEN_TOKEN, "BRK", 6));
+
+    private final List<String> multicallData = Collections.synchronizedList(new ArrayList<>());
+    private BatchInterceptor interceptor;
+
+    @Test
+    void readsSeparatelyWithoutMulticall() {
+        BulkBalanceReader reader = new BulkBalanceReader(client(false), null, 500, 4);
+
+        BalanceMatrix balances = reader.getBalances(ADDRESSES, TOKENS, DefaultBlockParameterName.LATEST).join();
+
+        assertMatrix(balances);
+        // 9 requests in chunks of 4
+        assertEquals(3, interceptor.getPayloads().size());
+    }
+
+    @Test
+    void fallsBackWhenMulticallIsNotDeployed() {
+        BulkBalanceReader reader = new BulkBalanceReader(client(false), MULTICALL, 500, 100);
+
+        assertMatrix(reader.getBalances(ADDRESSES, TOKENS, DefaultBlockParameterName.LATEST).join());
+        assertTrue(multicallData.isEmpty());
+    }
+
+    @Test
+    void aggregatesThroughMulticall() {
+        BulkBalanceReader reader = new BulkBalanceReader(client(true), MULTICALL, 4, 100);
+
+        BalanceMatrix balances = reader.getBalances(ADDRESSES, TOKENS, DefaultBlockParameterName.LATEST).join();
+
+        assertMatrix(balances);
+        assertEquals(3, multicallData.size());
+        // Code check and one batch of three aggregate3 calls
+        assertEquals(2, interceptor.getPayloads().size());
+        assertTrue(multicallData.contains(expectedAggregate(0, 4)));
+        assertTrue(multicallData.contains(expectedAggregate(4, 4)));
+        assertTrue(multicallData.contains(expectedAggregate(8, 1)));
+
+        reader.getBalances(ADDRESSES, TOKENS, DefaultBlockParameterName.LATEST).join();
+        assertEquals(3, interceptor.getPayloads().size());
+    }
+
+    private void assertMatrix(BalanceMatrix balances) {
+        for (int a = 0; a < ADDRESSES.size(); a++) {
+            assertEquals(balance(a, 0), balances.get(a, 0));
+            assertEquals(balance(a, 1), balances.get(ADDRESSES.get(a), TOKENS.get(1)));
+            assertNull(balances.get(a, 2));
+        }
+        assertEquals(3, balances.getFailedCount());
+    }
+
+    private static BigInteger balance(int address, int token) {
+        return BigInteger.valueOf(1000L * (address + 1) + token);
+    }
+
+    private static String expectedAggregate(int from, int count) {
+        List<DynamicStruct> calls = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            int address = i / TOKENS.size();
+            int token = i % TOKENS.size();
+            String target = token == 0 ? MULTICALL : TOKENS.get(token).getL2Address();
+            String method = token == 0 ? "getEthBalance" : "balanceOf";
+            String data = FunctionEncoder.encode(new org.web3j.abi.datatypes.Function(method,
+                    Collections.singletonList(new Address(ADDRESSES.get(address))), Collections.emptyList()));
+            calls.add(new DynamicStruct(new Address(target), new Bool(true), new DynamicBytes(Numeric.hexStringToByteArray(data))));
+        }
+        return "0x82ad56cb" + FunctionEncoder.encodeConstructor(Collections.singletonList(new DynamicArray<>(DynamicStruct.class, calls)));
+    }
+
+    private ZkSync client(boolean deployed) {
+        interceptor = new BatchInterceptor((request, response) -> answer(request, response, deployed));
+        return ZkSync.build(new HttpService(new OkHttpClient.Builder().addInterceptor(interceptor).build()));
+    }
+
+    private boolean answer(JsonNode request, ObjectNode response, boolean deployed) {
+        JsonNode params = request.get("params");
+        switch (request.get("method").asText()) {
+            case "eth_getCode":
+                response.put("result", deployed ? "0x6080" : "0x");
+                return true;
+            case "eth_getBalance":
+                response.put("result", Numeric.encodeQuantity(balance(ADDRESSES.indexOf(params.get(0).asText()), 0)));
+                return true;
+            case "eth_call":
+                String to = params.get(0).get("to").asText();
+                String data = params.get(0).get("data").asText();
+                if (to.equals(MULTICALL)) {
+                    multicallData.add(data);
+                    response.put("result", aggregateResult(data));
+                } else if (to.equals(BROKEN_TOKEN)) {
+                    response.putObject("error").put("code", 3).put("message", "execution reverted");
+                } else {
+                    int address = ADDRESSES.indexOf("0x" + data.substring(data.length() - 40));
+                    response.put("result", Numeric.toHexStringWithPrefixZeroPadded(balance(address, 1), 64));
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Results of the calls in the aggregate3 data, calls to the broken token fail.
+     */
+    private static String aggregateResult(String data) {
+        byte[] calldata = Numeric.hexStringToByteArray(data);
+        int count = new BigInteger(1, Arrays.copyOfRange(calldata, 36, 68)).intValue();
+        List<DynamicStruct> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int tuple = 68 + count * 32 + i * 192;
+            String target = Numeric.toHexString(Arrays.copyOfRange(calldata, tuple + 12, tuple + 32));
+            String owner = Numeric.toHexString(Arrays.copyOfRange(calldata, tuple + 144, tuple + 164));
+            int address = ADDRESSES.indexOf(owner);
+            if (target.equals(BROKEN_TOKEN)) {
+                results.add(new DynamicStruct(new Bool(false), new DynamicBytes(new byte[0])));
+            } else {
+                BigInteger value = balance(address, target.equals(MULTICALL) ? 0 : 1);
+                results.add(new DynamicStruct(new Bool(true), new DynamicBytes(Numeric.toBytesPadded(new Uint256(value).getValue(), 32))));
+            }
+        }
+        return "0x" + FunctionEncoder.encodeConstructor(Collections.singletonList(new DynamicArray<>(DynamicStruct.class, results)));
+    }
+}
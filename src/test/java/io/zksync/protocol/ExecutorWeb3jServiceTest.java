@@ -0,0 +1,38 @@
+package io.zksync.protocol;
+
+import io.zksync.helper.BatchInterceptor;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.core.methods.response.EthChainId;
+import org.web3j.protocol.http.HttpService;
+
+import java.math.BigInteger;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExecutorWeb3jServiceTest {
+
+    @Test
+    public void testSendAsyncRunsOnExecutor() {
+        AtomicReference<String> thread = new AtomicReference<>();
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(new BatchInterceptor((request, response) -> {
+            thread.set(Thread.currentThread().getName());
+            response.put("result", "0x10e");
+            return true;
+        })).build();
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "sdk-executor"));
+
+        try {
+            ZkSync zksync = ZkSync.build(new ExecutorWeb3jService(new HttpService(client), executor));
+            EthChainId chainId = zksync.ethChainId().sendAsync().join();
+
+            assertEquals(BigInteger.valueOf(270), chainId.getChainId());
+            assertEquals("sdk-executor", thread.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.zksync.protocol;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.zksync.helper.BatchInterceptor;
+import io.zksync.utils.ZkSyncAddresses;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.protocol.http.HttpService;
+import org.web3j.utils.Numeric;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenAddressCacheTest {
+
+    private static final String L2_BRIDGE = "0xcbebcd41ceabbc85da9bb67527f58d69ad4dfff5";
+    private static final String L1_DAI = "0x5c221e77624690fff6dd741493d735a17716c26b";
+    private static final String L2_DAI = "0x3e7676937a7e96cfb7616f255b9ad9ff47363d4b";
+    private static final String L1_USDC = "0xd35cceead182dcee0f148ebac9447da2c4d449c4";
+    private static final String L2_USDC = "0x0faf6df7054946141266420b43783387a78d82a9";
+    private static final String NOT_BRIDGED = "0x00000000000000000000000000000000000000aa";
+
+    @TempDir
+    Path directory;
+
+    private BatchInterceptor interceptor;
+    private ZkSync zkSync;
+
+    @BeforeEach
+    public void setUp() {
+        interceptor = new BatchInterceptor(TokenAddressCacheTest::answer);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(interceptor).build();
+        zkSync = ZkSync.build(new HttpService(client));
+    }
+
+    @Test
+    void bulkLookupUsesSingleBatch() {
+        TokenAddressCache cache = new TokenAddressCache(new ZkSyncNetworkContext(zkSync), null);
+
+        Map<String, String> l2 = cache.getL2Addresses(Arrays.asList(L1_DAI, L1_USDC, ZkSyncAddresses.ETH_ADDRESS, NOT_BRIDGED)).join();
+
+        assertEquals(L2_DAI, l2.get(L1_DAI));
+        assertEquals(L2_USDC, l2.get(L1_USDC));
+        assertEquals(ZkSyncAddresses.ETH_ADDRESS, l2.get(ZkSyncAddresses.ETH_ADDRESS));
+        assertTrue(l2.containsKey(NOT_BRIDGED));
+        assertNull(l2.get(NOT_BRIDGED));
+        // Bridge addresses and one batch of three calls
+        assertEquals(2, interceptor.getPayloads().size());
+        assertEquals(3, interceptor.getPayloads().get(1).size());
+
+        assertEquals(L1_DAI, cache.getL1Address(L2_DAI).join());
+        assertEquals(L2_USDC, cache.getL2Address(L1_USDC.toUpperCase().replace("0X", "0x")).join());
+        assertEquals(2, interceptor.getPayloads().size());
+        assertEquals(2, cache.size());
+
+        assertNull(cache.getL2Address(NOT_BRIDGED).join());
+        assertNull(cache.getL1Address(NOT_BRIDGED).join());
+        assertEquals(ZkSyncAddresses.ETH_ADDRESS, cache.getL1Address(ZkSyncAddresses.ETH_ADDRESS).join());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void snapshotIsReloaded() throws Exception {
+        Path snapshot = directory.resolve("tokens.snapshot");
+        TokenAddressCache cache = new TokenAddressCache(new ZkSyncNetworkContext(zkSync), snapshot);
+        cache.getL1Addresses(Collections.singletonList(L2_DAI)).join();
+        cache.saveSnapshot();
+        int requests = interceptor.getPayloads().size();
+
+        TokenAddressCache restored = new TokenAddressCache(new ZkSyncNetworkContext(zkSync), snapshot);
+        assertEquals(L2_DAI, restored.getL2Address(L1_DAI).join());
+        assertEquals(L1_DAI, restored.getL1Address(L2_DAI).join());
+        assertEquals(requests, interceptor.getPayloads().size());
+    }
+
+    private static boolean answer(JsonNode request, ObjectNode response) {
+        String method = request.get("method").asText();
+        if (method.equals("zks_getBridgeContracts")) {
+            response.putObject("result").put("l2Erc20DefaultBridge", L2_BRIDGE);
+            return true;
+        }
+        if (!method.equals("eth_call")) {
+            return false;
+        }
+
+        String data = request.get("params").get(0).get("data").asText();
+        String argument = "0x" + data.substring(data.length() - 40);
+        String mapped;
+        if (argument.equals(L1_DAI)) {
+            mapped = L2_DAI;
+        } else if (argument.equals(L2_DAI)) {
+            mapped = L1_DAI;
+        } else if (argument.equals(L1_USDC)) {
+            mapped = L2_USDC;
+        } else {
+            mapped = ZkSyncAddresses.ETH_ADDRESS;
+        }
+        response.put("result", Numeric.prependHexPrefix(FunctionEncoder.encodeConstructor(Collections.singletonList(new Address(mapped)))));
+        return true;
+    }
+}
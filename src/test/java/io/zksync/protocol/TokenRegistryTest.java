@@ -0,0 +1,101 @@
+package io.zksync.protocol;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.zksync.helper.BatchInterceptor;
+import io.zksync.protocol.core.Token;
+import io.zksync.utils.ZkSyncAddresses;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.http.HttpService;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRegistryTest {
+
+    private final AtomicInteger confirmed = new AtomicInteger(23);
+    private BatchInterceptor interceptor;
+    private TokenRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        interceptor = new BatchInterceptor(this::answer);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(interceptor).build();
+        registry = new TokenRegistry(ZkSync.build(new HttpService(client)), (short) 5, 3, Duration.ZERO);
+    }
+
+    @Test
+    void preloadFetchesPagesInBatches() {
+        registry.preload().join();
+
+        assertTrue(registry.isLoaded());
+        assertEquals(23, registry.getTokens().size());
+        // 3 pages in the first batch, last 2 pages (one of them partial) in the second
+        assertEquals(2, interceptor.getPayloads().size());
+        assertEquals(3, interceptor.getPayloads().get(1).size());
+
+        Token token = registry.getBySymbol("TK7").get();
+        assertSame(token, registry.getByL1Address(l1Address(7).toUpperCase().replace("0X", "0x")).get());
+        assertSame(token, registry.getByL2Address(l2Address(7)).get());
+        assertEquals(Integer.valueOf(7), token.getDecimals());
+        assertTrue(registry.getBySymbol("ETH").get().isETH());
+
+        registry.preload().join();
+        assertEquals(2, interceptor.getPayloads().size());
+    }
+
+    @Test
+    void resolveRefreshesIncrementally() {
+        registry.setMissRefreshInterval(Duration.ZERO);
+        registry.preload().join();
+        confirmed.set(25);
+
+        assertEquals("TK24", registry.resolve(l2Address(24)).join().get().getSymbol());
+        assertEquals(25, registry.getTokens().size());
+        assertEquals(23, interceptor.getPayloads().get(2).get(0).get("params").get(0).asInt());
+
+        assertTrue(registry.resolve(ZkSyncAddresses.ETH_ADDRESS).join().isPresent());
+        assertFalse(registry.resolve("UNKNOWN").join().isPresent());
+    }
+
+    @Test
+    void resolveRefreshOnMissIsRateLimited() {
+        registry.preload().join();
+        confirmed.set(25);
+
+        assertFalse(registry.resolve(l2Address(24)).join().isPresent());
+        assertFalse(registry.resolve("UNKNOWN").join().isPresent());
+        assertEquals(2, interceptor.getPayloads().size());
+
+        registry.setMissRefreshInterval(Duration.ZERO);
+        assertTrue(registry.resolve(l2Address(24)).join().isPresent());
+        assertEquals(3, interceptor.getPayloads().size());
+    }
+
+    private static String l1Address(int index) {
+        return String.format("0x%040x", 0x1000 + index);
+    }
+
+    private static String l2Address(int index) {
+        return String.format("0x%040x", 0x2000 + index);
+    }
+
+    private boolean answer(JsonNode request, ObjectNode response) {
+        int from = request.get("params").get(0).asInt();
+        int limit = request.get("params").get(1).asInt();
+        ArrayNode result = response.putArray("result");
+        for (int i = from; i < Math.min(from + limit, confirmed.get()); i++) {
+            result.addObject()
+                    .put("l1Address", l1Address(i))
+                    .put("l2Address", l2Address(i))
+                    .put("symbol", "TK" + i)
+                    .put("decimals", i);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,153 @@
+package io.zksync.protocol;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.zksync.helper.BatchInterceptor;
+import io.zksync.protocol.exceptions.JsonRpcResponseException;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.http.HttpService;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Proxy;
+import java.math.BigInteger;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+class ZkSyncNetworkContextTest {
+
+    private static final String L1_ERC20_BRIDGE = "0x927ddfcc55164a59e0f33918d13a2d559bc10ce7";
+    private static final String L2_ETH_BRIDGE = "0xcbebcd41ceabbc85da9bb67527f58d69ad4dfff5";
+    private static final String MAIN_CONTRACT = "0x2eaa1377e0fc95de998b9fa7611e9d67eba534fd";
+
+    private final AtomicBoolean paymasterSupported = new AtomicBoolean(false);
+    private BatchInterceptor interceptor;
+    private ZkSync zkSync;
+    private ZkSyncNetworkContext context;
+
+    @BeforeEach
+    public void setUp() {
+        interceptor = new BatchInterceptor(this::answer);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(interceptor).build();
+        zkSync = ZkSync.build(new HttpService(client));
+        context = new ZkSyncNetworkContext(zkSync);
+    }
+
+    @Test
+    void valuesAreFetchedOnce() {
+        assertEquals(L2_ETH_BRIDGE, context.getBridgeAddresses().join().getL2EthDefaultBridge());
+        assertEquals(L1_ERC20_BRIDGE, context.getBridgeAddresses().join().getL1Erc20DefaultBridge());
+        assertEquals(BigInteger.valueOf(5), context.getL1ChainId().join());
+        assertEquals(BigInteger.valueOf(5), context.getL1ChainId().join());
+
+        assertEquals(2, interceptor.getPayloads().size());
+    }
+
+    @Test
+    void preloadUsesSingleBatchAndSkipsFailures() {
+        context.preload().join();
+
+        assertEquals(1, interceptor.getPayloads().size());
+        assertEquals(5, interceptor.getPayloads().get(0).size());
+        assertEquals(MAIN_CONTRACT, context.getMainContract().join());
+        assertEquals(BigInteger.valueOf(270), context.getChainId().join());
+        assertEquals(1, interceptor.getPayloads().size());
+
+        CompletionException error = assertThrows(CompletionException.class, () -> context.getTestnetPaymaster().join());
+        assertTrue(error.getCause() instanceof JsonRpcResponseException);
+
+        paymasterSupported.set(true);
+        assertEquals(MAIN_CONTRACT, context.getTestnetPaymaster().join());
+    }
+
+    @Test
+    void refreshFetchesAgain() {
+        context.getMainContract().join();
+        context.refresh().join();
+        context.getMainContract().join();
+
+        assertEquals(2, interceptor.getPayloads().size());
+        assertEquals(5, interceptor.getPayloads().get(1).size());
+    }
+
+    @Test
+    void synchronousFetchFailureIsNotCached() {
+        ZkSync client = spy(zkSync);
+        doThrow(new IllegalStateException("client is closed")).doCallRealMethod().when(client).zksGetBridgeContracts();
+        ZkSyncNetworkContext context = new ZkSyncNetworkContext(client);
+
+        CompletionException error = assertThrows(CompletionException.class, () -> context.getBridgeAddresses().join());
+        assertTrue(error.getCause() instanceof IllegalStateException);
+        assertEquals(L2_ETH_BRIDGE, context.getBridgeAddresses().join().getL2EthDefaultBridge());
+    }
+
+    @Test
+    void sharedContextPerClient() {
+        assertSame(ZkSyncNetworkContext.of(zkSync), ZkSyncNetworkContext.of(zkSync));
+        assertNotSame(context, ZkSyncNetworkContext.of(zkSync));
+    }
+
+    @Test
+    void sharedContextDoesNotRetainClient() throws InterruptedException {
+        ZkSync client = (ZkSync) Proxy.newProxyInstance(ZkSync.class.getClassLoader(), new Class<?>[] {ZkSync.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return null;
+                    }
+                });
+        ZkSyncNetworkContext shared = ZkSyncNetworkContext.of(client);
+        assertSame(shared, ZkSyncNetworkContext.of(client));
+
+        WeakReference<ZkSync> reference = new WeakReference<>(client);
+        client = null;
+        shared = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(reference.get());
+    }
+
+    private boolean answer(JsonNode request, ObjectNode response) {
+        switch (request.get("method").asText()) {
+            case "zks_getBridgeContracts":
+                response.putObject("result")
+                        .put("l1Erc20DefaultBridge", L1_ERC20_BRIDGE)
+                        .put("l2Erc20DefaultBridge", L2_ETH_BRIDGE)
+                        .put("l1EthDefaultBridge", L1_ERC20_BRIDGE)
+                        .put("l2EthDefaultBridge", L2_ETH_BRIDGE);
+                break;
+            case "zks_getMainContract":
+                response.put("result", MAIN_CONTRACT);
+                break;
+            case "zks_L1ChainId":
+                response.put("result", "0x5");
+                break;
+            case "eth_chainId":
+                response.put("result", "0x10e");
+                break;
+            case "zks_getTestnetPaymaster":
+                if (paymasterSupported.get()) {
+                    response.put("result", MAIN_CONTRACT);
+                } else {
+                    response.putObject("error").put("code", -32601).put("message", "Method not found");
+                }
+                break;
+            default:
+                return false;
+        }
+        return true;
+    }
+}
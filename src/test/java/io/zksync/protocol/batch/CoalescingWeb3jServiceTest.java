@@ -0,0 +1,74 @@
+package io.zksync.protocol.batch;
+
+import io.zksync.helper.BatchInterceptor;
+import io.zksync.protocol.ZkSync;
+import io.zksync.protocol.core.ZkBlockParameterName;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.core.methods.response.EthGetBalance;
+import org.web3j.protocol.http.HttpService;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CoalescingWeb3jServiceTest {
+
+    private static final String ADDRESS = "0x7e5f4552091a69125d5dfcb7b8c2659029395bdf";
+
+    private BatchInterceptor interceptor;
+    private HttpService httpService;
+
+    @BeforeEach
+    public void setUp() {
+        interceptor = new BatchInterceptor((request, response) -> {
+            response.put("result", "0x3e8");
+            return true;
+        });
+        httpService = new HttpService(new OkHttpClient.Builder().addInterceptor(interceptor).build());
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        httpService.close();
+    }
+
+    @Test
+    void flushesWhenBatchIsFull() {
+        CoalescingWeb3jService service = new CoalescingWeb3jService(httpService, Duration.ofMinutes(1), 4);
+        ZkSync zkSync = ZkSync.build(service);
+
+        List<CompletableFuture<EthGetBalance>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(zkSync.ethGetBalance(ADDRESS, ZkBlockParameterName.COMMITTED).sendAsync());
+        }
+
+        futures.forEach(future -> assertEquals(BigInteger.valueOf(1000), future.join().getBalance()));
+        assertEquals(2, interceptor.getPayloads().size());
+        assertEquals(2, service.getMetrics().getFlushCount());
+        assertEquals(8, service.getMetrics().getRequestCount());
+        assertEquals(4, service.getMetrics().getMaxBatchSize());
+    }
+
+    @Test
+    void flushesWhenWindowExpires() throws Exception {
+        CoalescingWeb3jService service = new CoalescingWeb3jService(httpService, Duration.ofMillis(50), 100);
+        ZkSync zkSync = ZkSync.build(service);
+
+        CompletableFuture<EthGetBalance> first = zkSync.ethGetBalance(ADDRESS, ZkBlockParameterName.COMMITTED).sendAsync();
+        CompletableFuture<EthGetBalance> second = zkSync.ethGetBalance(ADDRESS, ZkBlockParameterName.COMMITTED).sendAsync();
+        EthGetBalance third = zkSync.ethGetBalance(ADDRESS, ZkBlockParameterName.COMMITTED).send();
+
+        assertEquals(BigInteger.valueOf(1000), first.join().getBalance());
+        assertEquals(BigInteger.valueOf(1000), second.join().getBalance());
+        assertEquals(BigInteger.valueOf(1000), third.getBalance());
+        assertEquals(1, interceptor.getPayloads().size());
+        assertEquals(3, interceptor.getPayloads().get(0).size());
+    }
+}
@@ -0,0 +1,104 @@
+package io.zksync.protocol.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.zksync.helper.BatchInterceptor;
+import io.zksync.methods.response.ZksAccountBalances;
+import io.zksync.methods.response.ZksGetTransactionReceipt;
+import io.zksync.methods.response.ZksL1ChainId;
+import io.zksync.protocol.ZkSync;
+import io.zksync.protocol.core.ZkBlockParameterName;
+import io.zksync.protocol.exceptions.JsonRpcResponseException;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.core.methods.response.EthGetBalance;
+import org.web3j.protocol.http.HttpService;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZkSyncBatchRequestTest {
+
+    private static final String ADDRESS = "0x7e5f4552091a69125d5dfcb7b8c2659029395bdf";
+    private static final String TX_HASH = "0x6ab74f7b4bc2c3a9f0d0d6d2a9b8aa3b1a2ff1c37ef9de1b18e4bd2d8c3a6b2e";
+
+    private BatchInterceptor interceptor;
+    private ZkSync zkSync;
+
+    @BeforeEach
+    public void setUp() {
+        interceptor = new BatchInterceptor(ZkSyncBatchRequestTest::answer);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(interceptor).build();
+        zkSync = ZkSync.build(new HttpService(client));
+    }
+
+    @Test
+    void sendReordersResponsesAndKeepsPartialFailures() throws Exception {
+        ZkSyncBatchRequest batch = zkSync.newZkSyncBatch();
+        BatchEntry<EthGetBalance> balance = batch.add(zkSync.ethGetBalance(ADDRESS, ZkBlockParameterName.COMMITTED));
+        BatchEntry<ZksAccountBalances> balances = batch.add(zkSync.zksGetAllAccountBalances(ADDRESS));
+        BatchEntry<ZksL1ChainId> chainId = batch.add(zkSync.zksL1ChainId());
+        BatchEntry<ZksGetTransactionReceipt> receipt = batch.add(zkSync.zksGetTransactionReceipt(TX_HASH));
+
+        ZkSyncBatchResponse response = batch.send();
+
+        assertEquals(1, interceptor.getPayloads().size());
+        assertEquals(4, interceptor.getPayloads().get(0).size());
+
+        assertEquals(BigInteger.valueOf(1000), response.getOrThrow(balance).getBalance());
+        assertEquals(Collections.singletonMap(ADDRESS, BigInteger.valueOf(11444057226014L)), response.get(balances).getBalances());
+
+        assertTrue(response.hasErrors());
+        assertEquals(-32601, response.get(chainId).getError().getCode());
+        assertThrows(JsonRpcResponseException.class, () -> response.getOrThrow(chainId));
+        assertEquals(ZkSyncBatchRequest.MISSING_RESPONSE_ERROR_CODE, response.get(receipt).getError().getCode());
+        assertEquals(2, response.getErrors().size());
+        assertTrue(response.getErrors().containsKey(2));
+        assertTrue(response.getErrors().containsKey(3));
+
+        batch.add(zkSync.zksL1ChainId());
+        assertEquals(4, response.getRequests().size());
+        assertEquals(4, response.getResponses().size());
+    }
+
+    @Test
+    void sendAsyncSplitsIntoChunks() {
+        ZkSyncBatchRequest batch = zkSync.newZkSyncBatch(2);
+        List<BatchEntry<EthGetBalance>> entries = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            entries.add(batch.add(zkSync.ethGetBalance(ADDRESS, ZkBlockParameterName.COMMITTED)));
+        }
+
+        ZkSyncBatchResponse response = batch.sendAsync().join();
+
+        assertEquals(3, interceptor.getPayloads().size());
+        assertFalse(response.hasErrors());
+        for (BatchEntry<EthGetBalance> entry : entries) {
+            assertEquals(BigInteger.valueOf(1000), response.get(entry).getBalance());
+        }
+    }
+
+    /**
+     * Fails {@code zks_L1ChainId} and skips {@code eth_getTransactionReceipt}.
+     */
+    private static boolean answer(JsonNode request, ObjectNode response) {
+        switch (request.get("method").asText()) {
+            case "eth_getBalance":
+                response.put("result", "0x3e8");
+                return true;
+            case "zks_getAllAccountBalances":
+                response.putObject("result").put(ADDRESS, "0xa6886f73b1e");
+                return true;
+            case "zks_L1ChainId":
+                response.putObject("error").put("code", -32601).put("message", "Method not found");
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.zksync.protocol.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncRemoteCallTest {
+
+    @Test
+    void inheritedPathsWaitForFuture() throws Exception {
+        AsyncRemoteCall<String> call = new AsyncRemoteCall<>(() -> CompletableFuture.completedFuture("done"));
+
+        assertEquals("done", call.send());
+        assertEquals("done", call.sendAsync().join());
+        assertEquals("done", call.flowable().blockingFirst());
+    }
+
+    @Test
+    void sendThrowsCauseOfFailure() {
+        AsyncRemoteCall<String> call = new AsyncRemoteCall<>(() -> {
+            CompletableFuture<String> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new IOException("Connection reset"));
+            return failed;
+        });
+
+        assertThrows(IOException.class, call::send);
+    }
+}
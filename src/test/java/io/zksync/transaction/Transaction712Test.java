@@ -51,6 +51,23 @@ public class Transaction712Test extends BaseTransactionTest {
                 Numeric.toHexString(encoded));
     }
 
+    @Test
+    public void testHashStructMatchesGenericEncoding() {
+        byte[] bytecode = Numeric.hexStringToByteArray(CounterContract.BINARY);
+        Transaction712[] transactions = {
+                buildTransaction(),
+                new Transaction712(270L, BigInteger.ZERO, BigInteger.ONE.shiftLeft(200), null, null, null,
+                        BigInteger.ZERO, BigInteger.valueOf(Long.MAX_VALUE), SENDER, new Eip712Meta(BigInteger.ZERO, null, null, null)),
+                new Transaction712(270L, BigInteger.TEN, BigInteger.valueOf(54321), RECEIVER, BigInteger.ONE, "0xabc",
+                        BigInteger.ONE, BigInteger.ONE, SENDER, new Eip712Meta(BigInteger.valueOf(160000L), null, new byte[][] {bytecode},
+                        new PaymasterParams("0x000000000000000000000000000000000000800a", new byte[] {1, 2, 3}))),
+        };
+
+        for (Transaction712 transaction : transactions) {
+            assertEquals(Numeric.toHexString(Eip712Encoder.hashStruct(transaction)), Numeric.toHexString(transaction.hashStruct()));
+        }
+    }
+
     private Transaction712 buildTransaction() {
         return new Transaction712(
                 42,
@@ -0,0 +1,103 @@
+package io.zksync.transaction.fee;
+
+import io.zksync.methods.request.Transaction;
+import io.zksync.protocol.exceptions.JsonRpcResponseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.core.Response;
+
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CachedGasLimitFeeProviderTest {
+
+    private static final String FROM = "0x7e5f4552091a69125d5dfcb7b8c2659029395bdf";
+    private static final String TOKEN = "0x2c7e84980191210883d2df3167a3ab6a2cc15e01";
+
+    private ZkTransactionFeeProvider delegate;
+    private CachedGasLimitFeeProvider provider;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = mock(ZkTransactionFeeProvider.class);
+        when(delegate.getGasLimitAsync(any())).thenReturn(CompletableFuture.completedFuture(BigInteger.valueOf(1000)));
+        provider = new CachedGasLimitFeeProvider(delegate, 2, 1.5);
+    }
+
+    @Test
+    void sameCallShapeIsEstimatedOnce() {
+        assertEquals(BigInteger.valueOf(1500), provider.getGasLimit(transfer("0x1111111111111111111111111111111111111111")));
+        assertEquals(BigInteger.valueOf(1500), provider.getGasLimitAsync(transfer("0x2222222222222222222222222222222222222222")).join());
+
+        verify(delegate, times(1)).getGasLimitAsync(any());
+        assertEquals(1, provider.getHitCount());
+        assertEquals(1, provider.getMissCount());
+
+        // Different calldata length is a different shape
+        provider.getGasLimit(call(TOKEN, "0xa9059cbb00"));
+        verify(delegate, times(2)).getGasLimitAsync(any());
+    }
+
+    @Test
+    void estimationIsDroppedWhenTooLow() {
+        Transaction transaction = transfer("0x1111111111111111111111111111111111111111");
+        provider.getGasLimit(transaction);
+
+        provider.reportGasUsed(transaction, BigInteger.valueOf(900));
+        assertEquals(1, provider.size());
+        provider.reportGasUsed(transaction, BigInteger.valueOf(1100));
+        assertEquals(0, provider.size());
+
+        provider.getGasLimit(transaction);
+        Response<String> response = new Response<>();
+        response.setError(new Response.Error(-32000, "out of gas"));
+        provider.reportFailure(transaction, new JsonRpcResponseException(response));
+        assertEquals(0, provider.size());
+    }
+
+    @Test
+    void reportsPassThroughDecorators() {
+        when(delegate.getGasPriceAsync()).thenReturn(CompletableFuture.completedFuture(BigInteger.ONE));
+        Transaction transaction = transfer("0x1111111111111111111111111111111111111111");
+        provider.getGasLimit(transaction);
+
+        try (CachedGasPriceFeeProvider wrapped = new CachedGasPriceFeeProvider(provider)) {
+            ZkTransactionFeeProvider feeProvider = wrapped;
+            feeProvider.reportGasUsed(transaction, BigInteger.valueOf(1600));
+            Response<String> response = new Response<>();
+            response.setError(new Response.Error(3, "out of gas"));
+            feeProvider.reportFailure(transaction, new JsonRpcResponseException(response));
+        }
+
+        assertEquals(0, provider.size());
+        verify(delegate).reportGasUsed(transaction, BigInteger.valueOf(1600));
+        verify(delegate).reportFailure(eq(transaction), any());
+    }
+
+    @Test
+    void leastRecentlyUsedShapeIsEvicted() {
+        provider.getGasLimit(call("0x1111111111111111111111111111111111111111", "0x"));
+        provider.getGasLimit(call("0x2222222222222222222222222222222222222222", "0x"));
+        provider.getGasLimit(call("0x1111111111111111111111111111111111111111", "0x"));
+        provider.getGasLimit(call("0x3333333333333333333333333333333333333333", "0x"));
+
+        assertEquals(2, provider.size());
+        provider.getGasLimit(call("0x1111111111111111111111111111111111111111", "0x"));
+        verify(delegate, times(3)).getGasLimitAsync(any());
+    }
+
+    private static Transaction transfer(String to) {
+        String calldata = "0xa9059cbb000000000000000000000000" + to.substring(2)
+                + "0000000000000000000000000000000000000000000000000000000000000001";
+        return call(TOKEN, calldata);
+    }
+
+    private static Transaction call(String to, String calldata) {
+        return Transaction.createFunctionCallTransaction(FROM, to, BigInteger.ZERO, BigInteger.ZERO, calldata);
+    }
+}
@@ -0,0 +1,68 @@
+package io.zksync.transaction.fee;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachedGasPriceFeeProviderTest {
+
+    @Test
+    void gasPriceIsServedFromSnapshotUntilStale() throws Exception {
+        ZkTransactionFeeProvider delegate = mock(ZkTransactionFeeProvider.class);
+        AtomicInteger calls = new AtomicInteger();
+        when(delegate.getGasPriceAsync()).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(BigInteger.valueOf(100L * calls.incrementAndGet())));
+
+        try (CachedGasPriceFeeProvider provider = new CachedGasPriceFeeProvider(delegate, Duration.ZERO, Duration.ofMillis(50))) {
+            assertNull(provider.getStaleness());
+            assertEquals(BigInteger.valueOf(100), provider.getGasPrice());
+            assertEquals(BigInteger.valueOf(100), provider.getGasPrice("transfer"));
+            assertEquals(BigInteger.valueOf(100), provider.getGasPriceAsync().join());
+            verify(delegate, times(1)).getGasPriceAsync();
+
+            Thread.sleep(60);
+            assertEquals(BigInteger.valueOf(200), provider.getGasPrice());
+            verify(delegate, times(2)).getGasPriceAsync();
+        }
+    }
+
+    @Test
+    void concurrentRefreshesShareRequest() {
+        ZkTransactionFeeProvider delegate = mock(ZkTransactionFeeProvider.class);
+        CompletableFuture<BigInteger> pending = new CompletableFuture<>();
+        when(delegate.getGasPriceAsync()).thenReturn(pending);
+
+        try (CachedGasPriceFeeProvider provider = new CachedGasPriceFeeProvider(delegate, Duration.ZERO, Duration.ofSeconds(1))) {
+            CompletableFuture<BigInteger> first = provider.getGasPriceAsync();
+            CompletableFuture<BigInteger> second = provider.refresh();
+            assertSame(first, second);
+
+            pending.complete(BigInteger.TEN);
+            assertEquals(BigInteger.TEN, second.join());
+            assertEquals(BigInteger.TEN, provider.getCachedGasPrice());
+            verify(delegate, times(1)).getGasPriceAsync();
+        }
+    }
+
+    @Test
+    void synchronousDelegateFailureDoesNotStickRefresh() {
+        ZkTransactionFeeProvider delegate = mock(ZkTransactionFeeProvider.class);
+        when(delegate.getGasPriceAsync())
+                .thenThrow(new IllegalStateException("Node unavailable"))
+                .thenReturn(CompletableFuture.completedFuture(BigInteger.TEN));
+
+        try (CachedGasPriceFeeProvider provider = new CachedGasPriceFeeProvider(delegate, Duration.ZERO, Duration.ofSeconds(1))) {
+            CompletionException error = assertThrows(CompletionException.class, () -> provider.refresh().join());
+            assertTrue(error.getCause() instanceof IllegalStateException);
+
+            assertEquals(BigInteger.TEN, provider.refresh().join());
+        }
+    }
+}
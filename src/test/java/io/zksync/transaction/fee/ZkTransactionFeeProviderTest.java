@@ -0,0 +1,69 @@
+package io.zksync.transaction.fee;
+
+import io.zksync.methods.request.Transaction;
+import io.zksync.utils.ZkSyncExecutors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ZkTransactionFeeProviderTest {
+
+    private final AtomicInteger executed = new AtomicInteger();
+    private final ExecutorService pool = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        ZkSyncExecutors.setDefault(ForkJoinPool.commonPool());
+        pool.shutdownNow();
+    }
+
+    @Test
+    void asyncDefaultsRunOnDefaultExecutor() throws Exception {
+        ZkSyncExecutors.setDefault(command -> {
+            executed.incrementAndGet();
+            pool.execute(command);
+        });
+        Thread caller = Thread.currentThread();
+        ZkTransactionFeeProvider provider = mock(ZkTransactionFeeProvider.class, CALLS_REAL_METHODS);
+        doAnswer(invocation -> {
+            assertNotSame(caller, Thread.currentThread());
+            return BigInteger.TEN;
+        }).when(provider).getGasPrice();
+        doAnswer(invocation -> {
+            assertNotSame(caller, Thread.currentThread());
+            return BigInteger.valueOf(21000);
+        }).when(provider).getGasLimit(any(Transaction.class));
+
+        assertEquals(BigInteger.TEN, provider.getGasPriceAsync().get(5, TimeUnit.SECONDS));
+        assertEquals(BigInteger.valueOf(21000), provider.getGasLimitAsync(transaction()).get(5, TimeUnit.SECONDS));
+        assertEquals(2, executed.get());
+    }
+
+    @Test
+    void asyncDefaultsPropagateFailures() {
+        ZkTransactionFeeProvider provider = mock(ZkTransactionFeeProvider.class, CALLS_REAL_METHODS);
+        doThrow(new IllegalStateException("estimation failed")).when(provider).getGasLimit(any(Transaction.class));
+
+        CompletableFuture<BigInteger> gasLimit = provider.getGasLimitAsync(transaction());
+
+        CompletionException error = assertThrows(CompletionException.class, gasLimit::join);
+        assertTrue(error.getCause() instanceof IllegalStateException);
+    }
+
+    private static Transaction transaction() {
+        return Transaction.createFunctionCallTransaction("0x7e5f4552091a69125d5dfcb7b8c2659029395bdf",
+                "0xe1fab3efd74a77c23b426c302d96372140ff7d0c", BigInteger.ZERO, BigInteger.ZERO, "0x");
+    }
+}
@@ -0,0 +1,115 @@
+package io.zksync.transaction.manager;
+
+import io.zksync.protocol.ZkSync;
+import io.zksync.protocol.core.ZkBlockParameterName;
+import io.zksync.protocol.exceptions.JsonRpcResponseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class NonceManagerTest {
+
+    private static final String ADDRESS = "0x7e5f4552091a69125d5dfcb7b8c2659029395bdf";
+
+    private final AtomicLong chainNonce = new AtomicLong(5);
+    private ZkSync zkSync;
+    private NonceManager nonceManager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        zkSync = mock(ZkSync.class);
+        doAnswer(invocation -> {
+            Request<?, EthGetTransactionCount> request = mock(Request.class);
+            EthGetTransactionCount response = new EthGetTransactionCount();
+            response.setResult("0x" + Long.toHexString(chainNonce.get()));
+            when(request.sendAsync()).thenReturn(CompletableFuture.completedFuture(response));
+            return request;
+        }).when(zkSync).ethGetTransactionCount(eq(ADDRESS), any());
+
+        nonceManager = new NonceManager(zkSync, ADDRESS);
+    }
+
+    @Test
+    public void reservesUniqueNoncesWithSingleRequest() {
+        Set<BigInteger> reserved = ConcurrentHashMap.newKeySet();
+        List<CompletableFuture<BigInteger>> futures = IntStream.range(0, 100).parallel()
+                .mapToObj(i -> nonceManager.reserve().thenApply(nonce -> {
+                    reserved.add(nonce);
+                    return nonce;
+                }))
+                .collect(Collectors.toList());
+        futures.forEach(CompletableFuture::join);
+
+        assertEquals(100, reserved.size());
+        assertEquals(BigInteger.valueOf(5), reserved.stream().min(BigInteger::compareTo).get());
+        assertEquals(BigInteger.valueOf(104), reserved.stream().max(BigInteger::compareTo).get());
+        verify(zkSync, times(1)).ethGetTransactionCount(ADDRESS, ZkBlockParameterName.COMMITTED);
+    }
+
+    @Test
+    public void reusesReleasedNonceFirst() {
+        BigInteger first = nonceManager.reserve().join();
+        BigInteger second = nonceManager.reserve().join();
+
+        assertFalse(nonceManager.handleError(first, new CompletionException(new JsonRpcResponseException("Out of gas"))));
+
+        assertEquals(first, nonceManager.reserve().join());
+        assertEquals(second.add(BigInteger.ONE), nonceManager.reserve().join());
+    }
+
+    @Test
+    public void resyncsOnNonceError() {
+        BigInteger first = nonceManager.reserve().join();
+        nonceManager.reserve().join();
+        chainNonce.set(42);
+
+        Response<String> rejected = new Response<>();
+        rejected.setError(new Response.Error(3, "nonce too low"));
+        assertTrue(nonceManager.handleError(first, new CompletionException(new JsonRpcResponseException(rejected))));
+
+        assertEquals(BigInteger.valueOf(42), nonceManager.reserve().join());
+        verify(zkSync, times(2)).ethGetTransactionCount(ADDRESS, ZkBlockParameterName.COMMITTED);
+    }
+
+    @Test
+    public void releasesNonceWhenNotSent() {
+        BigInteger first = nonceManager.reserve().join();
+        nonceManager.reserve().join();
+
+        assertFalse(nonceManager.handleError(first, new CompletionException(new IllegalStateException("Signing failed")), false));
+
+        assertEquals(first, nonceManager.reserve().join());
+        verify(zkSync, times(1)).ethGetTransactionCount(ADDRESS, ZkBlockParameterName.COMMITTED);
+    }
+
+    @Test
+    public void resyncsOnTransportError() {
+        BigInteger first = nonceManager.reserve().join();
+        BigInteger second = nonceManager.reserve().join();
+        chainNonce.set(second.longValueExact() + 1);
+
+        assertTrue(nonceManager.handleError(first, new CompletionException(new IOException("Connection reset")), true));
+
+        assertEquals(second.add(BigInteger.ONE), nonceManager.reserve().join());
+        verify(zkSync, times(2)).ethGetTransactionCount(ADDRESS, ZkBlockParameterName.COMMITTED);
+    }
+}
@@ -0,0 +1,76 @@
+package io.zksync.transaction.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.zksync.helper.BatchInterceptor;
+import io.zksync.protocol.ZkSync;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.protocol.http.HttpService;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZkSyncAsyncTransactionReceiptProcessorTest {
+
+    private static final String TX_HASH = "0x6ab74f7b4bc2c3a9f0d0d6d2a9b8aa3b1a2ff1c37ef9de1b18e4bd2d8c3a6b2e";
+    private static final String LOST_HASH = "0x1111111111111111111111111111111111111111111111111111111111111111";
+    private static final String BLOCK_HASH = "0x2222222222222222222222222222222222222222222222222222222222222222";
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private ScheduledExecutorService scheduler;
+    private ZkSyncAsyncTransactionReceiptProcessor processor;
+
+    @BeforeEach
+    public void setUp() {
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(new BatchInterceptor(this::answer)).build();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        processor = new ZkSyncAsyncTransactionReceiptProcessor(ZkSync.build(new HttpService(client)), scheduler,
+                10, 40, 2, 0.2, 500);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void waitCompletesAfterRetries() throws Exception {
+        TransactionReceipt receipt = processor.waitForTransactionReceiptAsync(TX_HASH).get(5, TimeUnit.SECONDS);
+
+        assertEquals(BLOCK_HASH, receipt.getBlockHash());
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    void waitFailsAfterTimeout() {
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> processor.waitForTransactionReceiptAsync(LOST_HASH).get(5, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof TransactionException);
+        assertThrows(TransactionException.class, () -> processor.waitForTransactionReceipt(LOST_HASH));
+    }
+
+    /**
+     * Receipt of {@link #TX_HASH} is available from the third request, {@link #LOST_HASH} is never included.
+     */
+    private boolean answer(JsonNode request, ObjectNode response) {
+        if (request.get("params").get(0).asText().equals(TX_HASH) && requests.incrementAndGet() >= 3) {
+            response.putObject("result")
+                    .put("transactionHash", TX_HASH)
+                    .put("blockHash", BLOCK_HASH)
+                    .put("blockNumber", "0xb");
+        } else {
+            response.putNull("result");
+        }
+        return true;
+    }
+}
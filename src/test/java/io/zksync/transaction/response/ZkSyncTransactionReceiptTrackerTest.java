@@ -0,0 +1,139 @@
+package io.zksync.transaction.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.zksync.helper.BatchInterceptor;
+import io.zksync.protocol.ZkSync;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.protocol.http.HttpService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZkSyncTransactionReceiptTrackerTest {
+
+    private static final String INCLUDED_HASH = "0x6ab74f7b4bc2c3a9f0d0d6d2a9b8aa3b1a2ff1c37ef9de1b18e4bd2d8c3a6b2e";
+    private static final String LOST_HASH = "0x1111111111111111111111111111111111111111111111111111111111111111";
+    private static final String BLOCK_HASH = "0x2222222222222222222222222222222222222222222222222222222222222222";
+
+    private final AtomicInteger head = new AtomicInteger(10);
+    private final AtomicInteger receiptFailures = new AtomicInteger();
+    private BatchInterceptor interceptor;
+    private ZkSyncTransactionReceiptTracker tracker;
+
+    @BeforeEach
+    public void setUp() {
+        interceptor = new BatchInterceptor(this::answer);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(interceptor).build();
+        tracker = new ZkSyncTransactionReceiptTracker(ZkSync.build(new HttpService(client)), 20, 10);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tracker.close();
+    }
+
+    @Test
+    void trackCompletesIncludedAndExpiresLostTransactions() throws Exception {
+        CompletableFuture<TransactionReceipt> included = tracker.track(INCLUDED_HASH);
+        CompletableFuture<TransactionReceipt> lost = tracker.track(LOST_HASH);
+        head.incrementAndGet();
+
+        TransactionReceipt receipt = included.get(5, TimeUnit.SECONDS);
+        assertEquals(INCLUDED_HASH, receipt.getTransactionHash());
+        assertEquals(BLOCK_HASH, receipt.getBlockHash());
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> lost.get(5, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof TransactionException);
+        assertEquals(0, tracker.getPendingCount());
+
+        // Receipts are requested only for the transaction found in the scanned block
+        assertTrue(receiptRequests(LOST_HASH) <= 1);
+    }
+
+    @Test
+    void failedReceiptRequestsAreRetried() throws Exception {
+        CompletableFuture<TransactionReceipt> included = tracker.track(INCLUDED_HASH);
+        // Let the first poll take block 10 as the start, so the transaction is found by the block scan
+        long deadline = System.currentTimeMillis() + 5000;
+        while (receiptRequests(INCLUDED_HASH) == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        // First request of the included transaction gets no receipt yet, the second one gets an error
+        receiptFailures.set(2);
+        head.incrementAndGet();
+
+        TransactionReceipt receipt = included.get(5, TimeUnit.SECONDS);
+        assertEquals(INCLUDED_HASH, receipt.getTransactionHash());
+        assertEquals(0, receiptFailures.get());
+        assertEquals(0, tracker.getPendingCount());
+    }
+
+    private long receiptRequests(String hash) {
+        synchronized (interceptor.getPayloads()) {
+            return interceptor.getPayloads().stream()
+                    .filter(JsonNode::isArray)
+                    .flatMap(payload -> {
+                        List<JsonNode> elements = new ArrayList<>();
+                        payload.forEach(elements::add);
+                        return elements.stream();
+                    })
+                    .filter(request -> request.get("method").asText().equals("eth_getTransactionReceipt"))
+                    .filter(request -> request.get("params").get(0).asText().equals(hash))
+                    .count();
+        }
+    }
+
+    /**
+     * Block 11 includes {@link #INCLUDED_HASH}, receipt is available only for it.
+     */
+    private boolean answer(JsonNode request, ObjectNode response) {
+        switch (request.get("method").asText()) {
+            case "eth_blockNumber":
+                response.put("result", "0x" + Integer.toHexString(head.get()));
+                return true;
+            case "eth_getBlockByNumber": {
+                ObjectNode block = response.putObject("result");
+                block.put("number", request.get("params").get(0).asText());
+                block.put("hash", BLOCK_HASH);
+                if (request.get("params").get(0).asText().equals("0xb")) {
+                    block.putArray("transactions").add(INCLUDED_HASH);
+                } else {
+                    block.putArray("transactions");
+                }
+                return true;
+            }
+            case "eth_getTransactionReceipt": {
+                String hash = request.get("params").get(0).asText();
+                if (hash.equals(INCLUDED_HASH) && head.get() > 10 && receiptFailures.get() > 0) {
+                    if (receiptFailures.decrementAndGet() == 0) {
+                        response.putObject("error").put("code", -32000).put("message", "internal error");
+                    } else {
+                        response.putNull("result");
+                    }
+                } else if (hash.equals(INCLUDED_HASH) && head.get() > 10) {
+                    response.putObject("result")
+                            .put("transactionHash", INCLUDED_HASH)
+                            .put("blockHash", BLOCK_HASH)
+                            .put("blockNumber", "0xb");
+                } else {
+                    response.putNull("result");
+                }
+                return true;
+            }
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package io.zksync.transaction.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransactionSchedulerTest {
+
+    private static final String SIGNER = "0x7E5F4552091A69125d5DfCb7b8C2659029395Bdf";
+    private static final String OTHER_SIGNER = "0x2B5AD5c4795c026514f8317c7a215E218DcCD6cF";
+
+    private final List<CompletableFuture<String>> sent = new ArrayList<>();
+
+    @Test
+    public void testPerSignerInFlightLimit() {
+        try (TransactionScheduler scheduler = new TransactionScheduler(TransactionSchedulerConfig.builder()
+                .maxInFlightPerSigner(2)
+                .build())) {
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                results.add(scheduler.submit(SIGNER, this::send));
+            }
+            scheduler.submit(OTHER_SIGNER, this::send);
+
+            assertEquals(3, sent.size());
+            assertEquals(2, scheduler.getInFlightCount(SIGNER.toLowerCase()));
+            assertEquals(3, scheduler.getQueuedCount());
+
+            sent.get(0).complete("0x01");
+            assertEquals("0x01", results.get(0).join());
+            assertEquals(4, sent.size());
+            assertEquals(2, scheduler.getQueuedCount());
+            assertEquals(3, scheduler.getInFlightCount());
+        }
+    }
+
+    @Test
+    public void testQueueCapacity() {
+        try (TransactionScheduler scheduler = new TransactionScheduler(TransactionSchedulerConfig.builder()
+                .maxInFlightPerSigner(1)
+                .queueCapacity(1)
+                .build())) {
+            scheduler.submit(SIGNER, this::send);
+            CompletableFuture<String> queued = scheduler.submit(SIGNER, this::send);
+            CompletableFuture<String> rejected = scheduler.submit(SIGNER, this::send);
+
+            CompletionException exception = assertThrows(CompletionException.class, rejected::join);
+            assertTrue(exception.getCause() instanceof RejectedExecutionException);
+            assertFalse(queued.isDone());
+        }
+    }
+
+    @Test
+    public void testRateLimit() {
+        try (TransactionScheduler scheduler = new TransactionScheduler(TransactionSchedulerConfig.builder()
+                .maxTransactionsPerSecond(20)
+                .burst(1)
+                .build())) {
+            long start = System.nanoTime();
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                results.add(scheduler.submit(SIGNER, () -> CompletableFuture.completedFuture("0x01")));
+            }
+            assertTrue(results.get(0).isDone());
+            assertFalse(results.get(2).isDone());
+
+            CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).join();
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(90));
+        }
+    }
+
+    @Test
+    public void testErrorsReduceConcurrency() {
+        try (TransactionScheduler scheduler = new TransactionScheduler(TransactionSchedulerConfig.builder()
+                .initialConcurrency(16)
+                .build())) {
+            CompletableFuture<String> result = scheduler.submit(SIGNER, () -> {
+                CompletableFuture<String> failed = new CompletableFuture<>();
+                failed.completeExceptionally(new IOException("mempool is full"));
+                return failed;
+            });
+
+            CompletionException exception = assertThrows(CompletionException.class, result::join);
+            assertTrue(exception.getCause() instanceof IOException);
+            assertEquals(11, scheduler.getConcurrencyLimit());
+            assertTrue(scheduler.getErrorRate() > 0);
+        }
+    }
+
+    @Test
+    public void testImmediateFailuresDoNotRecurse() {
+        try (TransactionScheduler scheduler = new TransactionScheduler(TransactionSchedulerConfig.builder()
+                .maxInFlightPerSigner(1)
+                .queueCapacity(50_000)
+                .minConcurrency(16)
+                .build())) {
+            CompletableFuture<String> first = scheduler.submit(SIGNER, this::send);
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < 50_000; i++) {
+                results.add(scheduler.submit(SIGNER, () -> {
+                    throw new IllegalStateException("invalid transaction");
+                }));
+            }
+
+            sent.get(0).complete("0x01");
+
+            assertEquals("0x01", first.join());
+            for (CompletableFuture<String> result : results) {
+                assertTrue(result.isDone());
+                CompletionException exception = assertThrows(CompletionException.class, result::join);
+                assertTrue(exception.getCause() instanceof IllegalStateException);
+            }
+            assertEquals(0, scheduler.getInFlightCount());
+        }
+    }
+
+    @Test
+    public void testOnlySendStepIsSampled() {
+        try (TransactionScheduler scheduler = new TransactionScheduler(TransactionSchedulerConfig.builder()
+                .initialConcurrency(16)
+                .build())) {
+            CompletableFuture<String> receipt = new CompletableFuture<>();
+            CompletableFuture<String> result = scheduler.submit(SIGNER,
+                    () -> CompletableFuture.completedFuture("0x01"), hash -> receipt);
+
+            assertEquals(1, scheduler.getInFlightCount());
+            receipt.completeExceptionally(new IOException("receipt timeout"));
+
+            CompletionException exception = assertThrows(CompletionException.class, result::join);
+            assertTrue(exception.getCause() instanceof IOException);
+            assertEquals(0, scheduler.getInFlightCount());
+            assertEquals(16, scheduler.getConcurrencyLimit());
+            assertEquals(0, scheduler.getErrorRate());
+
+            CompletableFuture<String> rejected = scheduler.submit(SIGNER, () -> {
+                CompletableFuture<String> failed = new CompletableFuture<>();
+                failed.completeExceptionally(new IOException("mempool is full"));
+                return failed;
+            }, hash -> CompletableFuture.completedFuture(hash));
+
+            assertThrows(CompletionException.class, rejected::join);
+            assertEquals(11, scheduler.getConcurrencyLimit());
+            assertTrue(scheduler.getErrorRate() > 0);
+        }
+    }
+
+    @Test
+    public void testAdaptiveLimit() {
+        AdaptiveLimit limit = new AdaptiveLimit(1, 4, 8, 2.0, 0.5);
+        long now = 0;
+        for (int i = 0; i < 40; i++) {
+            limit.onSample(100, false, now += 100);
+        }
+        assertEquals(8, limit.getLimit());
+
+        limit.onSample(1_000, false, now += 1_000);
+        assertEquals(4, limit.getLimit());
+        limit.onSample(1_000, true, now + 1);
+        assertEquals(4, limit.getLimit());
+    }
+
+    private CompletableFuture<String> send() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        sent.add(future);
+        return future;
+    }
+}
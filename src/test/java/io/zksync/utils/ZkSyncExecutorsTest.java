@@ -0,0 +1,83 @@
+package io.zksync.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZkSyncExecutorsTest {
+
+    @AfterEach
+    public void tearDown() {
+        ZkSyncExecutors.setDefault(ForkJoinPool.commonPool());
+    }
+
+    @Test
+    public void testBlockingExecutorMatchesJdk() throws Exception {
+        ExecutorService executor = ZkSyncExecutors.newBlockingExecutor();
+        try {
+            boolean virtual = executor.submit(ZkSyncExecutorsTest::isVirtual).get(5, TimeUnit.SECONDS);
+            assertEquals(ZkSyncExecutors.isVirtualThreadSupported(), virtual);
+            assertEquals(!ZkSyncExecutors.isVirtualThreadSupported(), executor instanceof ThreadPoolExecutor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testBoundedExecutorLimitsThreads() throws Exception {
+        ExecutorService executor = ZkSyncExecutors.newBoundedExecutor(2);
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(3);
+            for (int i = 0; i < 3; i++) {
+                executor.execute(() -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            assertFalse(started.await(200, TimeUnit.MILLISECONDS));
+            assertEquals(1, started.getCount());
+            assertEquals(2, ((ThreadPoolExecutor) executor).getPoolSize());
+            release.countDown();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testUseBlockingExecutorChangesDefault() {
+        assertSame(ForkJoinPool.commonPool(), ZkSyncExecutors.getDefault());
+
+        ExecutorService executor = ZkSyncExecutors.useBlockingExecutor();
+        try {
+            Executor current = ZkSyncExecutors.getDefault();
+            assertSame(executor, current);
+            assertTrue(CompletableFuture.supplyAsync(() -> true, current).join());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static boolean isVirtual() {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread());
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+}
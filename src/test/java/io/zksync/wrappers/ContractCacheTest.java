@@ -0,0 +1,53 @@
+package io.zksync.wrappers;
+
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.Web3j;
+import org.web3j.tx.ReadonlyTransactionManager;
+import org.web3j.tx.TransactionManager;
+import org.web3j.tx.gas.DefaultGasProvider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ContractCacheTest {
+
+    private static final String DAI = "0x5C221E77624690fff6dd741493D735a17716c26B";
+    private static final String USDC = "0xd35cceead182dcee0f148ebac9447da2c4d449c4";
+
+    private final Web3j web3j = mock(Web3j.class);
+    private final TransactionManager first = new ReadonlyTransactionManager(web3j, DAI);
+    private final TransactionManager second = new ReadonlyTransactionManager(web3j, USDC);
+
+    @Test
+    public void testReuseInstances() {
+        AtomicInteger loads = new AtomicInteger();
+        ContractCache<ERC20> cache = new ContractCache<>((address, transactionManager) -> {
+            loads.incrementAndGet();
+            return ERC20.load(address, web3j, transactionManager, new DefaultGasProvider());
+        });
+
+        ERC20 dai = cache.get(DAI, first);
+
+        assertSame(dai, cache.get(DAI, first));
+        assertSame(dai, cache.get(DAI.toLowerCase(), first));
+        assertNotSame(dai, cache.get(DAI, second));
+        assertNotSame(dai, cache.get(USDC, first));
+        assertEquals(3, loads.get());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testClearWhenFull() {
+        ContractCache<ERC20> cache = new ContractCache<>((address, transactionManager) ->
+                ERC20.load(address, web3j, transactionManager, new DefaultGasProvider()), 2);
+
+        ERC20 dai = cache.get(DAI, first);
+        cache.get(DAI, second);
+        cache.get(USDC, first);
+
+        assertEquals(1, cache.size());
+        assertNotSame(dai, cache.get(DAI, first));
+    }
+}
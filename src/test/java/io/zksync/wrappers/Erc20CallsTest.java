@@ -0,0 +1,52 @@
+package io.zksync.wrappers;
+
+import org.junit.jupiter.api.Test;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.TypeEncoder;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.tx.TransactionManager;
+import org.web3j.tx.exceptions.ContractCallException;
+
+import java.math.BigInteger;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class Erc20CallsTest {
+
+    private static final String DAI = "0x5C221E77624690fff6dd741493D735a17716c26B";
+    private static final String USDC = "0xd35cceead182dcee0f148ebac9447da2c4d449c4";
+
+    @Test
+    public void testTemplatesMatchGeneratedWrapper() {
+        assertEquals(FunctionEncoder.encode(ERC20.encodeTransfer(USDC, BigInteger.TEN)),
+                Erc20Calls.TRANSFER.encodeToHex(USDC, BigInteger.TEN));
+        assertEquals(FunctionEncoder.encode(ERC20.encodeTransferFrom(DAI, USDC, BigInteger.TEN)),
+                Erc20Calls.TRANSFER_FROM.encodeToHex(DAI, USDC, BigInteger.TEN));
+        assertEquals(FunctionEncoder.encode(ERC20.encodeApprove(USDC, BigInteger.TEN)),
+                Erc20Calls.APPROVE.encodeToHex(USDC, BigInteger.TEN));
+    }
+
+    @Test
+    public void testReadsDecodeResults() throws Exception {
+        TransactionManager transactionManager = mock(TransactionManager.class);
+        when(transactionManager.sendCall(eq(DAI), eq(Erc20Calls.BALANCE_OF.encodeToHex(USDC)), any()))
+                .thenReturn("0x" + TypeEncoder.encode(new Uint256(1000)));
+        when(transactionManager.sendCall(eq(DAI), eq(Erc20Calls.SYMBOL.encodeToHex()), any()))
+                .thenReturn(FunctionEncoder.encodeConstructor(Collections.singletonList(new Utf8String("DAI"))));
+        when(transactionManager.sendCall(eq(DAI), eq(Erc20Calls.DECIMALS.encodeToHex()), any()))
+                .thenReturn("0x");
+
+        assertEquals(BigInteger.valueOf(1000),
+                Erc20Calls.balanceOf(transactionManager, DAI, USDC, DefaultBlockParameterName.LATEST).send());
+        assertEquals("DAI", Erc20Calls.symbol(transactionManager, DAI, DefaultBlockParameterName.LATEST).send());
+        assertThrows(ContractCallException.class,
+                () -> Erc20Calls.decimals(transactionManager, DAI, DefaultBlockParameterName.LATEST).send());
+    }
+}